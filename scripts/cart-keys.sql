@@ -0,0 +1,74 @@
+-- 장바구니 유니크 키와 만료 정리 인덱스 (운영 MySQL용)
+-- 운영은 ddl-auto=validate라 엔티티의 유니크 제약과 인덱스를 만들지 않는다. 장바구니 upsert(CartItemRepository.upsertQuantityByTable)와
+-- 장바구니 생성(CartRepository.insertIfAbsent)은 이 키로 중복을 막으므로, 이 버전을 배포하기 전에 한 번 실행한다
+-- (키가 없으면 동시에 담을 때 아이템/장바구니가 중복 생성되고, 테이블 장바구니 조회가 NonUniqueResultException으로 실패한다).
+--
+-- 1. 같은 테이블의 장바구니가 여러 개면 가장 먼저 만든 장바구니(cart_id 최소)로 아이템을 옮기고 나머지를 지운다.
+-- 2. 같은 장바구니에 같은 메뉴가 여러 행이면 가장 먼저 담은 행(cart_item_id 최소)에 수량을 합치고 나머지를 지운다.
+--    소계는 남기는 행의 단가로 다시 계산한다.
+-- 3. 키가 없을 때만 추가한다. 여러 번 실행해도 된다.
+-- 4. 만료 정리(CartExpiry)가 마지막 변경 시각으로 후보를 찾는 인덱스도 없을 때만 추가한다
+--    (없으면 정리할 때마다 cart / cart_items를 전체 스캔한다).
+
+USE coffeeplz;
+
+-- 1, 2. 중복 정리
+START TRANSACTION;
+
+UPDATE cart_items ci
+    JOIN cart c ON c.cart_id = ci.cart_id
+    JOIN (SELECT table_id, MIN(cart_id) AS keep_id FROM cart GROUP BY table_id HAVING COUNT(*) > 1) k
+        ON k.table_id = c.table_id
+SET ci.cart_id = k.keep_id
+WHERE ci.cart_id <> k.keep_id;
+
+DELETE c FROM cart c
+    JOIN (SELECT table_id, MIN(cart_id) AS keep_id FROM cart GROUP BY table_id HAVING COUNT(*) > 1) k
+        ON k.table_id = c.table_id
+WHERE c.cart_id <> k.keep_id;
+
+UPDATE cart_items ci
+    JOIN (SELECT MIN(cart_item_id) AS keep_id, SUM(quantity) AS total_quantity, MAX(updated_at) AS last_updated_at
+          FROM cart_items GROUP BY cart_id, menu_id HAVING COUNT(*) > 1) d
+        ON d.keep_id = ci.cart_item_id
+SET ci.quantity = d.total_quantity,
+    ci.subtotal = ci.unit_price * d.total_quantity,
+    ci.updated_at = d.last_updated_at;
+
+DELETE ci FROM cart_items ci
+    JOIN (SELECT cart_id, menu_id, MIN(cart_item_id) AS keep_id
+          FROM cart_items GROUP BY cart_id, menu_id HAVING COUNT(*) > 1) d
+        ON d.cart_id = ci.cart_id AND d.menu_id = ci.menu_id
+WHERE ci.cart_item_id <> d.keep_id;
+
+COMMIT;
+
+-- 3. 유니크 키 추가 (MySQL 8.0은 ADD INDEX IF NOT EXISTS가 없으므로 information_schema로 확인)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'cart' AND index_name = 'uk_cart_table') = 0,
+              'ALTER TABLE cart ADD CONSTRAINT uk_cart_table UNIQUE (table_id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'cart_items' AND index_name = 'uk_cart_items_cart_menu') = 0,
+              'ALTER TABLE cart_items ADD CONSTRAINT uk_cart_items_cart_menu UNIQUE (cart_id, menu_id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4. 만료 정리 인덱스
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'cart' AND index_name = 'idx_cart_updated_at') = 0,
+              'CREATE INDEX idx_cart_updated_at ON cart (updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'cart_items' AND index_name = 'idx_cart_items_cart_updated_at') = 0,
+              'CREATE INDEX idx_cart_items_cart_updated_at ON cart_items (cart_id, updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,20 @@
+-- Idempotency-Key 응답 테이블 (운영 MySQL용)
+-- 운영은 ddl-auto=validate라 IdempotencyRecord 엔티티의 테이블이 없으면 애플리케이션이 뜨지 않는다.
+-- Idempotency-Key 처리가 들어간 버전을 배포하기 전에 한 번 실행한다.
+--
+-- 처리 완료된 요청의 응답을 expires_at까지 보관한다 (만료 행은 IdempotencyKeys가 expires_at 인덱스로 지운다).
+
+USE coffeeplz;
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    status_code     INT          NOT NULL,
+    content_type    VARCHAR(100) NULL,
+    response_body   LONGTEXT     NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    KEY idx_idempotency_keys_expires_at (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,23 @@
+-- 메뉴 재고 관리 컬럼 (운영 MySQL용)
+-- 운영은 ddl-auto=validate라 Menu 엔티티의 is_stock_managed / is_sold_out 컬럼이 없으면 애플리케이션이 뜨지 않는다.
+-- 재고 예약(StockReservations)이 들어간 버전을 배포하기 전에 한 번 실행한다.
+--
+-- is_stock_managed: true인 메뉴만 stock_quantity로 판매 수량을 제한한다 (기존 메뉴는 모두 제한 없음).
+-- is_sold_out: 재고 소진으로 판매 중지된 메뉴 (재고가 돌아오면 이 메뉴만 판매를 재개한다).
+-- 컬럼이 없을 때만 추가한다. 여러 번 실행해도 된다 (MySQL 8.0은 ADD COLUMN IF NOT EXISTS가 없으므로 information_schema로 확인).
+
+USE coffeeplz;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'menu' AND column_name = 'is_stock_managed') = 0,
+              'ALTER TABLE menu ADD COLUMN is_stock_managed BIT(1) NOT NULL DEFAULT 0', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'menu' AND column_name = 'is_sold_out') = 0,
+              'ALTER TABLE menu ADD COLUMN is_sold_out BIT(1) NOT NULL DEFAULT 0', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
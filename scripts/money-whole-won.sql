@@ -0,0 +1,48 @@
+-- 금액 컬럼 원 단위 정리 (운영 MySQL용)
+-- 금액은 Money(long 원)로 읽으므로 원 미만 값이 남은 행은 조회 시 예외가 난다.
+-- 이 버전을 배포하기 전에 한 번 실행한다. 컬럼 타입(DECIMAL(10,2))은 그대로 둔다.
+--
+-- 1. 원 미만 값이 있는 행 수 확인 (모두 0이면 2는 건너뛴다)
+-- 2. 반올림(ROUND, 0.5는 올림)으로 정리. 소계/합계는 정리한 단가로 다시 계산하지 않고 각자 반올림하므로
+--    정리 전후 금액 차이가 나는 주문은 1의 결과로 먼저 확인한다.
+-- 보관 테이블(*_archive)은 운영 테이블에서 값을 그대로 복사하므로 함께 정리한다 (order-archive-partitions.sql을 먼저 실행).
+-- order_outbox도 함께 정리하므로 order-outbox.sql을 먼저 실행한다.
+
+USE coffeeplz;
+
+-- 1. 확인
+SELECT 'menu.price' AS target, COUNT(*) AS fractional_rows FROM menu WHERE price <> ROUND(price)
+UNION ALL SELECT 'menu_options.additional_price', COUNT(*) FROM menu_options WHERE additional_price <> ROUND(additional_price)
+UNION ALL SELECT 'cart_items.unit_price', COUNT(*) FROM cart_items WHERE unit_price <> ROUND(unit_price)
+UNION ALL SELECT 'cart_items.subtotal', COUNT(*) FROM cart_items WHERE subtotal <> ROUND(subtotal)
+UNION ALL SELECT 'orders.total_amount', COUNT(*) FROM orders WHERE total_amount <> ROUND(total_amount)
+UNION ALL SELECT 'orders.used_points', COUNT(*) FROM orders WHERE used_points <> ROUND(used_points)
+UNION ALL SELECT 'orders.payment_amount', COUNT(*) FROM orders WHERE payment_amount <> ROUND(payment_amount)
+UNION ALL SELECT 'order_items.unit_price', COUNT(*) FROM order_items WHERE unit_price <> ROUND(unit_price)
+UNION ALL SELECT 'order_items.subtotal', COUNT(*) FROM order_items WHERE subtotal <> ROUND(subtotal)
+UNION ALL SELECT 'payments.amount', COUNT(*) FROM payments WHERE amount <> ROUND(amount)
+UNION ALL SELECT 'order_outbox.total_amount', COUNT(*) FROM order_outbox WHERE total_amount <> ROUND(total_amount)
+UNION ALL SELECT 'orders_archive', COUNT(*) FROM orders_archive
+    WHERE total_amount <> ROUND(total_amount) OR used_points <> ROUND(used_points) OR payment_amount <> ROUND(payment_amount)
+UNION ALL SELECT 'order_items_archive', COUNT(*) FROM order_items_archive
+    WHERE unit_price <> ROUND(unit_price) OR subtotal <> ROUND(subtotal)
+UNION ALL SELECT 'payments_archive.amount', COUNT(*) FROM payments_archive WHERE amount <> ROUND(amount);
+
+-- 2. 정리
+START TRANSACTION;
+UPDATE menu SET price = ROUND(price) WHERE price <> ROUND(price);
+UPDATE menu_options SET additional_price = ROUND(additional_price) WHERE additional_price <> ROUND(additional_price);
+UPDATE cart_items SET unit_price = ROUND(unit_price), subtotal = ROUND(subtotal)
+    WHERE unit_price <> ROUND(unit_price) OR subtotal <> ROUND(subtotal);
+UPDATE orders SET total_amount = ROUND(total_amount), used_points = ROUND(used_points), payment_amount = ROUND(payment_amount)
+    WHERE total_amount <> ROUND(total_amount) OR used_points <> ROUND(used_points) OR payment_amount <> ROUND(payment_amount);
+UPDATE order_items SET unit_price = ROUND(unit_price), subtotal = ROUND(subtotal)
+    WHERE unit_price <> ROUND(unit_price) OR subtotal <> ROUND(subtotal);
+UPDATE payments SET amount = ROUND(amount) WHERE amount <> ROUND(amount);
+UPDATE order_outbox SET total_amount = ROUND(total_amount) WHERE total_amount <> ROUND(total_amount);
+UPDATE orders_archive SET total_amount = ROUND(total_amount), used_points = ROUND(used_points), payment_amount = ROUND(payment_amount)
+    WHERE total_amount <> ROUND(total_amount) OR used_points <> ROUND(used_points) OR payment_amount <> ROUND(payment_amount);
+UPDATE order_items_archive SET unit_price = ROUND(unit_price), subtotal = ROUND(subtotal)
+    WHERE unit_price <> ROUND(unit_price) OR subtotal <> ROUND(subtotal);
+UPDATE payments_archive SET amount = ROUND(amount) WHERE amount <> ROUND(amount);
+COMMIT;
@@ -0,0 +1,110 @@
+-- 주문 보관 테이블 (운영 MySQL용)
+-- 운영은 ddl-auto=validate라 기동 시 보관 엔티티의 테이블도 검증하므로, 보관 기능이 들어간 버전을 배포하기 전에 한 번 실행한다
+-- (테이블이 없으면 OrderArchiver 사용 여부와 관계없이 애플리케이션이 뜨지 않는다).
+--
+-- created_at 기준 월별 RANGE 파티션으로 만들어 기간 조회는 해당 월 파티션만 읽고,
+-- 오래된 달은 DELETE 대신 ALTER TABLE ... DROP PARTITION으로 바로 비울 수 있다.
+-- MySQL 파티션 테이블은 외래 키를 지원하지 않으므로 보관 테이블에는 외래 키가 없고,
+-- 기본 키에 파티션 컬럼(created_at)을 포함한다. 운영 테이블(orders 등)은 외래 키를 유지하기 위해 파티션하지 않는다.
+--
+-- 파티션 추가: 매월 p_future를 나눠 다음 달 파티션을 만든다.
+--   ALTER TABLE orders_archive REORGANIZE PARTITION p_future INTO (
+--       PARTITION p202703 VALUES LESS THAN (TO_DAYS('2027-04-01')),
+--       PARTITION p_future VALUES LESS THAN MAXVALUE);
+-- (나머지 세 테이블도 같은 방식)
+
+USE coffeeplz;
+
+CREATE TABLE IF NOT EXISTS orders_archive (
+    order_id       BIGINT         NOT NULL,
+    user_id        BIGINT         NULL,
+    table_id       BIGINT         NOT NULL,
+    total_amount   DECIMAL(10, 2) NOT NULL,
+    used_points    DECIMAL(10, 2) NOT NULL,
+    payment_amount DECIMAL(10, 2) NOT NULL,
+    status         VARCHAR(20)    NOT NULL,
+    order_notes    VARCHAR(500)   NULL,
+    created_at     DATETIME(6)    NOT NULL,
+    updated_at     DATETIME(6)    NOT NULL,
+    archived_at    DATETIME(6)    NOT NULL,
+    PRIMARY KEY (order_id, created_at),
+    KEY idx_orders_archive_status_created_at (status, created_at),
+    KEY idx_orders_archive_table_created_at (table_id, created_at),
+    KEY idx_orders_archive_created_at (created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4
+PARTITION BY RANGE (TO_DAYS(created_at)) (
+    PARTITION p202609 VALUES LESS THAN (TO_DAYS('2026-10-01')),
+    PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+    PARTITION p202611 VALUES LESS THAN (TO_DAYS('2026-12-01')),
+    PARTITION p202612 VALUES LESS THAN (TO_DAYS('2027-01-01')),
+    PARTITION p202701 VALUES LESS THAN (TO_DAYS('2027-02-01')),
+    PARTITION p202702 VALUES LESS THAN (TO_DAYS('2027-03-01')),
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
+
+CREATE TABLE IF NOT EXISTS order_items_archive (
+    order_item_id BIGINT         NOT NULL,
+    order_id      BIGINT         NOT NULL,
+    menu_id       BIGINT         NOT NULL,
+    quantity      INT            NOT NULL,
+    unit_price    DECIMAL(10, 2) NOT NULL,
+    subtotal      DECIMAL(10, 2) NOT NULL,
+    notes         VARCHAR(200)   NULL,
+    created_at    DATETIME(6)    NOT NULL,
+    updated_at    DATETIME(6)    NOT NULL,
+    PRIMARY KEY (order_item_id, created_at),
+    KEY idx_order_items_archive_order (order_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4
+PARTITION BY RANGE (TO_DAYS(created_at)) (
+    PARTITION p202609 VALUES LESS THAN (TO_DAYS('2026-10-01')),
+    PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+    PARTITION p202611 VALUES LESS THAN (TO_DAYS('2026-12-01')),
+    PARTITION p202612 VALUES LESS THAN (TO_DAYS('2027-01-01')),
+    PARTITION p202701 VALUES LESS THAN (TO_DAYS('2027-02-01')),
+    PARTITION p202702 VALUES LESS THAN (TO_DAYS('2027-03-01')),
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
+
+CREATE TABLE IF NOT EXISTS order_item_options_archive (
+    order_item_option_id BIGINT      NOT NULL,
+    order_item_id        BIGINT      NOT NULL,
+    menu_option_id       BIGINT      NOT NULL,
+    quantity             INT         NOT NULL,
+    created_at           DATETIME(6) NOT NULL,
+    updated_at           DATETIME(6) NOT NULL,
+    PRIMARY KEY (order_item_option_id, created_at),
+    KEY idx_order_item_options_archive_item (order_item_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4
+PARTITION BY RANGE (TO_DAYS(created_at)) (
+    PARTITION p202609 VALUES LESS THAN (TO_DAYS('2026-10-01')),
+    PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+    PARTITION p202611 VALUES LESS THAN (TO_DAYS('2026-12-01')),
+    PARTITION p202612 VALUES LESS THAN (TO_DAYS('2027-01-01')),
+    PARTITION p202701 VALUES LESS THAN (TO_DAYS('2027-02-01')),
+    PARTITION p202702 VALUES LESS THAN (TO_DAYS('2027-03-01')),
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
+
+CREATE TABLE IF NOT EXISTS payments_archive (
+    payment_id     BIGINT         NOT NULL,
+    order_id       BIGINT         NOT NULL,
+    payment_method VARCHAR(50)    NOT NULL,
+    amount         DECIMAL(10, 2) NOT NULL,
+    status         VARCHAR(20)    NOT NULL,
+    transaction_id VARCHAR(100)   NULL,
+    payment_time   DATETIME(6)    NULL,
+    failure_reason VARCHAR(500)   NULL,
+    created_at     DATETIME(6)    NOT NULL,
+    updated_at     DATETIME(6)    NOT NULL,
+    PRIMARY KEY (payment_id, created_at),
+    KEY idx_payments_archive_order (order_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4
+PARTITION BY RANGE (TO_DAYS(created_at)) (
+    PARTITION p202609 VALUES LESS THAN (TO_DAYS('2026-10-01')),
+    PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+    PARTITION p202611 VALUES LESS THAN (TO_DAYS('2026-12-01')),
+    PARTITION p202612 VALUES LESS THAN (TO_DAYS('2027-01-01')),
+    PARTITION p202701 VALUES LESS THAN (TO_DAYS('2027-02-01')),
+    PARTITION p202702 VALUES LESS THAN (TO_DAYS('2027-03-01')),
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
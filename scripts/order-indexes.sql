@@ -0,0 +1,30 @@
+-- 주문 조회 인덱스 (운영 MySQL용)
+-- 운영은 ddl-auto=validate라 Order 엔티티의 @Index를 만들지 않는다. 관리자 주문 조회의 기간/상태/테이블 필터와
+-- keyset 페이지((created_at, order_id) 기준)는 이 인덱스를 전제로 하므로, 이 버전을 배포하기 전에 한 번 실행한다
+-- (없으면 페이지마다 orders를 전체 스캔한다).
+--
+-- 인덱스가 없을 때만 추가한다. 여러 번 실행해도 된다 (MySQL 8.0은 CREATE INDEX IF NOT EXISTS가 없으므로 information_schema로 확인).
+-- InnoDB 보조 인덱스는 기본 키(order_id)를 함께 담으므로 created_at 뒤의 order_id 정렬도 인덱스로 처리된다.
+
+USE coffeeplz;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'orders' AND index_name = 'idx_orders_status_created_at') = 0,
+              'CREATE INDEX idx_orders_status_created_at ON orders (status, created_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'orders' AND index_name = 'idx_orders_table_created_at') = 0,
+              'CREATE INDEX idx_orders_table_created_at ON orders (table_id, created_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'orders' AND index_name = 'idx_orders_created_at') = 0,
+              'CREATE INDEX idx_orders_created_at ON orders (created_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,22 @@
+-- 주문 이벤트 outbox 테이블 (운영 MySQL용)
+-- 운영은 ddl-auto=validate라 OrderOutboxEvent 엔티티의 테이블이 없으면 애플리케이션이 뜨지 않는다.
+-- outbox가 들어간 버전을 배포하기 전에, money-whole-won.sql보다 먼저 한 번 실행한다 (그 스크립트가 order_outbox도 정리한다).
+--
+-- 주문이 보관 테이블로 옮겨져도 이벤트가 남아야 하므로 orders에 외래 키를 두지 않는다.
+-- 릴레이는 published_at이 NULL인 행을 outbox_id 순으로 읽는다.
+
+USE coffeeplz;
+
+CREATE TABLE IF NOT EXISTS order_outbox (
+    outbox_id       BIGINT         NOT NULL,
+    order_id        BIGINT         NOT NULL,
+    table_id        BIGINT         NOT NULL,
+    event_type      VARCHAR(20)    NOT NULL,
+    previous_status VARCHAR(20)    NULL,
+    status          VARCHAR(20)    NOT NULL,
+    total_amount    DECIMAL(10, 2) NOT NULL,
+    occurred_at     DATETIME(6)    NOT NULL,
+    published_at    DATETIME(6)    NULL,
+    PRIMARY KEY (outbox_id),
+    KEY idx_order_outbox_published_at (published_at, outbox_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
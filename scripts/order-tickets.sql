@@ -0,0 +1,20 @@
+-- 비동기 주문 접수 결과 테이블 (운영 MySQL용)
+-- 운영은 ddl-auto=validate라 OrderTicket 엔티티의 테이블이 없으면 (접수 모드를 켜지 않아도) 애플리케이션이 뜨지 않는다.
+-- 비동기 주문 접수가 들어간 버전을 배포하기 전에 한 번 실행한다.
+--
+-- 처리가 끝난 접수만 기록하며, 재기동 후 저널을 다시 처리할 때 이미 주문된 접수를 걸러내는 데 쓴다.
+-- 주문이 보관 테이블로 옮겨져도 남아야 하므로 orders에 외래 키를 두지 않는다.
+
+USE coffeeplz;
+
+CREATE TABLE IF NOT EXISTS order_tickets (
+    ticket_id      VARCHAR(36)  NOT NULL,
+    table_id       BIGINT       NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    order_id       BIGINT       NULL,
+    failure_reason VARCHAR(500) NULL,
+    accepted_at    DATETIME(6)  NOT NULL,
+    completed_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (ticket_id),
+    KEY idx_order_tickets_completed_at (completed_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,94 @@
+package com.coffeeplz.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문/장바구니 합계 계산: 기존 BigDecimal 경로와 {@link Money} 비교
+ *
+ * 실행: ./gradlew jmh (-prof gc 를 추가하면 호출당 할당량도 볼 수 있다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    @Param({"3", "10", "50"})
+    private int itemCount;
+
+    private List<DecimalItem> decimalItems;
+    private List<MoneyItem> moneyItems;
+
+    @Setup
+    public void setUp() {
+        decimalItems = new ArrayList<>(itemCount);
+        moneyItems = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            long price = 3000 + (i % 7) * 500L;
+            int quantity = 1 + i % 3;
+            decimalItems.add(new DecimalItem(BigDecimal.valueOf(price).setScale(2), quantity));
+            moneyItems.add(new MoneyItem(Money.won(price), quantity));
+        }
+    }
+
+    /**
+     * 기존 Order.calculateTotalAmount 방식
+     */
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        return decimalItems.stream()
+                .map(DecimalItem::subtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public Money moneyTotal() {
+        return Money.sum(moneyItems, MoneyItem::subtotal);
+    }
+
+    /**
+     * 기존 @PrePersist 소계 계산 방식 (아이템마다 소계 재계산 후 합계)
+     */
+    @Benchmark
+    public BigDecimal bigDecimalSubtotalsAndTotal() {
+        return decimalItems.stream()
+                .map(item -> item.unitPrice().multiply(BigDecimal.valueOf(item.quantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public Money moneySubtotalsAndTotal() {
+        return Money.sum(moneyItems, item -> item.unitPrice().times(item.quantity()));
+    }
+
+    /**
+     * 장바구니 합계 방식 (소계 객체 없이 단가 × 수량을 long으로 합산)
+     */
+    @Benchmark
+    public Money moneySumOfProducts() {
+        return Money.sumOfProducts(moneyItems, MoneyItem::unitPrice, MoneyItem::quantity);
+    }
+
+    private record DecimalItem(BigDecimal unitPrice, int quantity, BigDecimal subtotal) {
+        private DecimalItem(BigDecimal unitPrice, int quantity) {
+            this(unitPrice, quantity, unitPrice.multiply(BigDecimal.valueOf(quantity)));
+        }
+    }
+
+    private record MoneyItem(Money unitPrice, int quantity, Money subtotal) {
+        private MoneyItem(Money unitPrice, int quantity) {
+            this(unitPrice, quantity, unitPrice.times(quantity));
+        }
+    }
+}
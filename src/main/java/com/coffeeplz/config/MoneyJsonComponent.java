@@ -0,0 +1,37 @@
+package com.coffeeplz.config;
+
+import com.coffeeplz.entity.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * {@link Money}를 JSON 숫자(원)로 직렬화/역직렬화
+ */
+@JsonComponent
+public class MoneyJsonComponent {
+
+    public static class Serializer extends JsonSerializer<Money> {
+        @Override
+        public void serialize(Money money, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(money.longValue());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            try {
+                return Money.of(parser.getDecimalValue());
+            } catch (IllegalArgumentException e) {
+                return (Money) context.handleWeirdNumberValue(Money.class, parser.getNumberValue(), e.getMessage());
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.coffeeplz.controller;
 
 import com.coffeeplz.dto.*;
+import com.coffeeplz.entity.Money;
 import com.coffeeplz.service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -8,10 +9,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.math.BigDecimal;
 
 @Tag(name = "장바구니 관리", description = "테이블별 익명 장바구니 관리 API")
 @RestController
@@ -32,6 +34,15 @@ public class CartController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "장바구니 변경 구독",
+            description = "테이블 장바구니를 SSE로 구독합니다. 첫 snapshot 이벤트로 전체 장바구니를, 이후 delta 이벤트로 변경분을 받습니다")
+    @GetMapping(value = "/table/{tableId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCart(@PathVariable Long tableId) {
+        log.info("장바구니 구독 요청: 테이블 {}", tableId);
+
+        return cartService.subscribeCart(tableId);
+    }
+
     @Operation(summary = "장바구니에 메뉴 추가", description = "장바구니에 메뉴 아이템을 추가합니다")
     @PostMapping("/table/{tableId}/items")
     public ResponseEntity<ApiResponse<CartResponse>> addCartItem(
@@ -83,10 +94,10 @@ public class CartController {
 
     @Operation(summary = "장바구니 총 금액 조회", description = "테이블 장바구니의 총 금액을 조회합니다")
     @GetMapping("/table/{tableId}/total")
-    public ResponseEntity<ApiResponse<BigDecimal>> getCartTotal(@PathVariable Long tableId) {
+    public ResponseEntity<ApiResponse<Money>> getCartTotal(@PathVariable Long tableId) {
         log.info("장바구니 총 금액 조회 요청: 테이블 {}", tableId);
         
-        BigDecimal totalAmount = cartService.calculateCartTotal(tableId);
+        Money totalAmount = cartService.calculateCartTotal(tableId);
         
         return ResponseEntity.ok(ApiResponse.success("총 금액", totalAmount));
     }
@@ -101,13 +112,14 @@ public class CartController {
         return ResponseEntity.ok(ApiResponse.success("활성 장바구니 여부", hasActive));
     }
 
-    @Operation(summary = "빈 장바구니 정리", description = "시스템의 빈 장바구니들을 정리합니다 (관리자용)")
+    @Operation(summary = "만료 장바구니 정리",
+            description = "비어 있거나 오래 변경되지 않은 장바구니를 즉시 정리합니다 (관리자용, 평소에는 주기적으로 자동 정리)")
     @PostMapping("/cleanup")
-    public ResponseEntity<ApiResponse<String>> cleanupEmptyCarts() {
-        log.info("빈 장바구니 정리 요청");
+    public ResponseEntity<ApiResponse<CartCleanupResponse>> cleanupEmptyCarts() {
+        log.info("장바구니 정리 요청");
         
-        cartService.cleanupEmptyCarts();
+        CartCleanupResponse response = cartService.cleanupEmptyCarts();
         
-        return ResponseEntity.ok(ApiResponse.success("빈 장바구니가 정리되었습니다"));
+        return ResponseEntity.ok(ApiResponse.success("장바구니가 정리되었습니다", response));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.coffeeplz.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag 기반 조건부 GET 처리 유틸리티
+ */
+final class ConditionalRequests {
+
+    // 클라이언트가 저장하되 매번 ETag로 재검증하도록 지시
+    static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * 강한 ETag 값 생성 (따옴표 포함)
+     */
+    static String strongEtag(String value) {
+        return "\"" + value + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더가 주어진 ETag와 일치하는지 확인
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match는 약한 비교를 사용하므로 W/ 접두어는 무시
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 304 Not Modified 응답 생성
+     */
+    static <T> ResponseEntity<T> notModified(String etag, String... vary) {
+        ResponseEntity.HeadersBuilder<?> builder = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REVALIDATE);
+        if (vary.length > 0) {
+            builder.varyBy(vary);
+        }
+        return builder.build();
+    }
+}
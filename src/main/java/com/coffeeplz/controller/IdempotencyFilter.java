@@ -0,0 +1,238 @@
+package com.coffeeplz.controller;
+
+import com.coffeeplz.dto.ApiResponse;
+import com.coffeeplz.service.IdempotencyKeys;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Idempotency-Key 헤더가 있는 주문 생성/카드 결제 요청의 중복 처리 방지
+ *
+ * 같은 키로 다시 오면 컨트롤러를 호출하지 않고 처음 응답(2xx)을 그대로 돌려준다.
+ * 같은 키의 요청이 아직 처리 중이면 409, 본문이 다른 요청에 키를 재사용하면 422로 응답한다.
+ * 처리에 실패한 요청은 키를 풀어서 같은 키로 다시 시도할 수 있다.
+ * 지문 계산을 위해 본문을 미리 읽으므로, max-body-bytes를 넘는 본문은 읽기 전에(또는 읽다가) 413으로 거절한다.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final List<String> PATTERNS = List.of("/api/orders", "/api/orders/table/*", "/api/payments/card");
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final IdempotencyKeys idempotencyKeys;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyKeys idempotencyKeys,
+                             ObjectMapper objectMapper,
+                             @Value("${coffeeplz.idempotency.max-body-bytes:1048576}") int maxBodyBytes) {
+        this.idempotencyKeys = idempotencyKeys;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PATTERNS.stream().noneMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String headerValue = request.getHeader(HEADER).trim();
+        if (headerValue.isEmpty() || headerValue.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, HEADER + " 헤더는 1~" + MAX_KEY_LENGTH + "자여야 합니다");
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문은 " + maxBodyBytes + "바이트 이하여야 합니다");
+            return;
+        }
+
+        // 폼 본문도 파라미터로 먼저 파싱되도록 본문보다 파라미터를 먼저 읽는다
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        // Content-Length 없이(chunked) 보낸 본문도 한도까지만 읽는다
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문은 " + maxBodyBytes + "바이트 이하여야 합니다");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String key = request.getMethod() + " " + request.getRequestURI() + " " + headerValue;
+        String requestHash = hash(request, parameters, cachedRequest.body);
+
+        IdempotencyKeys.Decision decision = idempotencyKeys.begin(key, requestHash);
+        switch (decision.getType()) {
+            case REPLAY -> {
+                log.info("Idempotency 재시도 응답 반환 - 키: {}", key);
+                replay(response, decision.getResponse());
+                return;
+            }
+            case IN_PROGRESS -> {
+                writeError(response, HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요");
+                return;
+            }
+            case MISMATCH -> {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 " + HEADER + "입니다");
+                return;
+            }
+            case PROCEED -> {
+                // 아래에서 처리
+            }
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            chain.doFilter(cachedRequest, cachedResponse);
+            if (HttpStatus.valueOf(cachedResponse.getStatus()).is2xxSuccessful()) {
+                idempotencyKeys.complete(key, requestHash, new IdempotencyKeys.StoredResponse(
+                        cachedResponse.getStatus(),
+                        cachedResponse.getContentType(),
+                        new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8)));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyKeys.abandon(key);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyKeys.StoredResponse stored) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.getBody() != null ? stored.getBody().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    /**
+     * 메서드, 경로, 파라미터, 본문 기준 요청 지문 (SHA-256)
+     */
+    private static String hash(HttpServletRequest request, Map<String, String[]> parameters, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            parameters.forEach((name, values) -> {
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                for (String value : values) {
+                    digest.update((byte) 0);
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) '&');
+            });
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 지문 계산과 컨트롤러 양쪽에서 본문을 읽을 수 있도록 미리 읽어 둔 요청
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 메모리에 있으므로 바로 읽을 수 있음과 끝까지 읽었음을 차례로 알린다
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.coffeeplz.controller;
 
 import com.coffeeplz.dto.*;
+import com.coffeeplz.service.MenuCatalogPayloadCache;
 import com.coffeeplz.service.MenuService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,7 +11,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,30 +27,59 @@ import java.util.List;
 public class MenuController {
 
     private final MenuService menuService;
+    private final MenuCatalogPayloadCache menuCatalogPayloadCache;
 
     // ===== 고객용 API =====
 
     @Operation(summary = "전체 메뉴 조회", description = "판매 가능한 모든 메뉴를 조회합니다 (고객용)")
-    @GetMapping("/available")
-    public ResponseEntity<ApiResponse<List<MenuResponse>>> getAvailableMenus() {
+    @GetMapping(value = "/available", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAvailableMenus(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("판매 가능한 메뉴 조회 요청");
         
-        List<MenuResponse> response = menuService.getAllMenus();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = catalogEtag(menuCatalogPayloadCache.currentVersion(), gzip);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return ConditionalRequests.notModified(etag, HttpHeaders.ACCEPT_ENCODING);
+        }
         
-        return ResponseEntity.ok(ApiResponse.success(response));
+        MenuCatalogPayloadCache.Payload payload = menuCatalogPayloadCache.availableMenus();
+        
+        return payloadResponse(payload, gzip);
     }
 
     @Operation(summary = "카테고리별 메뉴 조회", description = "특정 카테고리의 메뉴를 조회합니다")
-    @GetMapping("/category/{categoryId}")
-    public ResponseEntity<ApiResponse<List<MenuResponse>>> getMenusByCategory(@PathVariable Long categoryId) {
+    @GetMapping(value = "/category/{categoryId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getMenusByCategory(
+            @PathVariable Long categoryId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("카테고리별 메뉴 조회 요청: {}", categoryId);
         
-        List<MenuResponse> response = menuService.getMenusByCategory(categoryId);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = catalogEtag(menuCatalogPayloadCache.currentVersionOfCategory(categoryId), gzip);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return ConditionalRequests.notModified(etag, HttpHeaders.ACCEPT_ENCODING);
+        }
+        
+        MenuCatalogPayloadCache.Payload payload = menuCatalogPayloadCache.menusByCategory(categoryId);
+        
+        return payloadResponse(payload, gzip);
+    }
+
+    @Operation(summary = "메뉴 카탈로그 동기화", description = "마지막으로 받은 카탈로그 버전 이후 변경된 메뉴/카테고리만 조회합니다 (오래된 버전이면 전체 스냅샷)")
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponse<MenuCatalogSyncResponse>> syncCatalog(
+            @RequestParam(required = false) Long sinceVersion) {
+        log.info("메뉴 카탈로그 동기화 요청: sinceVersion={}", sinceVersion);
+        
+        MenuCatalogSyncResponse response = menuService.getCatalogChanges(sinceVersion);
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "메뉴 검색", description = "메뉴 이름으로 검색합니다")
+    @Operation(summary = "메뉴 검색", description = "메뉴 이름/설명으로 검색합니다 (초성 검색 지원)")
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<MenuResponse>>> searchMenus(@RequestParam String keyword) {
         log.info("메뉴 검색 요청: {}", keyword);
@@ -57,6 +89,15 @@ public class MenuController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "메뉴 자동완성", description = "메뉴 이름 앞부분(초성 포함)으로 메뉴를 찾습니다")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<MenuResponse>>> autocompleteMenus(@RequestParam String prefix,
+                                                                            @RequestParam(defaultValue = "10") int limit) {
+        List<MenuResponse> response = menuService.autocompleteMenus(prefix, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "인기 메뉴 조회", description = "인기 메뉴를 조회합니다 (최근 30일 기준)")
     @GetMapping("/popular")
     public ResponseEntity<ApiResponse<List<MenuResponse>>> getPopularMenus(@RequestParam(defaultValue = "10") int limit) {
@@ -135,16 +176,36 @@ public class MenuController {
         return ResponseEntity.ok(ApiResponse.success("메뉴 상태가 변경되었습니다"));
     }
 
+    @Operation(summary = "메뉴 재고 설정", description = "한정 메뉴의 재고를 설정합니다 (quantity 생략 시 재고 관리 해제)")
+    @PatchMapping("/{menuId}/stock")
+    public ResponseEntity<ApiResponse<String>> updateMenuStock(
+            @PathVariable Long menuId,
+            @RequestParam(required = false) Integer quantity) {
+        log.info("메뉴 재고 설정 요청: {} -> {}", menuId, quantity);
+
+        menuService.updateMenuStock(menuId, quantity);
+
+        return ResponseEntity.ok(ApiResponse.success("메뉴 재고가 변경되었습니다"));
+    }
+
     // ===== 카테고리 관리 API =====
 
     @Operation(summary = "카테고리 목록 조회", description = "모든 카테고리를 조회합니다")
-    @GetMapping("/categories")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories() {
+    @GetMapping(value = "/categories", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllCategories(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("카테고리 목록 조회 요청");
         
-        List<CategoryResponse> response = menuService.getAllCategories();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = catalogEtag(menuCatalogPayloadCache.currentVersion(), gzip);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return ConditionalRequests.notModified(etag, HttpHeaders.ACCEPT_ENCODING);
+        }
         
-        return ResponseEntity.ok(ApiResponse.success(response));
+        MenuCatalogPayloadCache.Payload payload = menuCatalogPayloadCache.categories();
+        
+        return payloadResponse(payload, gzip);
     }
 
     @Operation(summary = "카테고리 생성", description = "새로운 카테고리를 생성합니다")
@@ -167,4 +228,53 @@ public class MenuController {
         
         return ResponseEntity.ok(ApiResponse.success("조회 완료", count));
     }
-} 
\ No newline at end of file
+
+    /**
+     * 미리 직렬화된 응답 바이트를 그대로 전송 (gzip 지원 클라이언트에는 압축본 전송)
+     */
+    private ResponseEntity<byte[]> payloadResponse(MenuCatalogPayloadCache.Payload payload, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(catalogEtag(payload.getVersion(), gzip))
+                .cacheControl(ConditionalRequests.REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return builder.body(gzip ? payload.getGzip() : payload.getJson());
+    }
+
+    /**
+     * 카탈로그 버전 기반 강한 ETag (인코딩별로 구분)
+     */
+    private String catalogEtag(long version, boolean gzip) {
+        return ConditionalRequests.strongEtag("catalog-" + version + (gzip ? "-gzip" : ""));
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            // gzip;q=0 은 명시적 거부
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -2,19 +2,25 @@ package com.coffeeplz.controller;
 
 import com.coffeeplz.dto.*;
 import com.coffeeplz.entity.OrderStatus;
+import com.coffeeplz.service.OrderAccept;
+import com.coffeeplz.service.OrderIngest;
 import com.coffeeplz.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -26,22 +32,65 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIngest orderIngest;
+    private final OrderAccept orderAccept;
 
     // ===== 고객용 API =====
 
-    @Operation(summary = "주문 생성", description = "장바구니 기반으로 주문을 생성합니다")
+    @Operation(summary = "주문 생성",
+            description = "장바구니 기반으로 주문을 생성합니다. 비동기 접수 중이거나 DB 장애로 저널에 접수하면 202와 접수 번호를 돌려주고, 결과는 접수 조회나 접수 구독으로 받습니다")
     @PostMapping("/table/{tableId}")
-    public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
+    public ResponseEntity<ApiResponse<?>> createOrder(
             @PathVariable Long tableId,
             @RequestParam(required = false) String customerNotes) {
         log.info("주문 생성 요청: 테이블 {}, 고객 메모: {}", tableId, customerNotes);
+
+        if (orderAccept.isAccepting()) {
+            return acceptedOrder(orderAccept.accept(tableId, customerNotes));
+        }
+
+        OrderResponse response;
+        try {
+            response = orderIngest.createOrderFromCart(tableId, customerNotes);
+        } catch (RuntimeException e) {
+            return acceptedOrder(orderAccept.acceptOnOutage(tableId, customerNotes, e));
+        }
         
-        OrderResponse response = orderService.createOrderFromCart(tableId, customerNotes);
-        
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("주문이 생성되었습니다", response));
     }
 
+    @Operation(summary = "즉시 주문 생성", description = "장바구니 없이 주문 항목 전체를 받아 한 번에 주문을 생성합니다 (키오스크용)")
+    @PostMapping
+    public ResponseEntity<ApiResponse<OrderResponse>> createAnonymousOrder(
+            @Valid @RequestBody AnonymousOrderCreateRequest request) {
+        log.info("즉시 주문 생성 요청: 테이블 {}, 항목 {}개", request.getTableId(), request.getOrderItems().size());
+
+        OrderResponse response = orderService.createAnonymousOrder(request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("주문이 생성되었습니다", response));
+    }
+
+    @Operation(summary = "주문 접수 조회", description = "비동기로 접수한 주문의 처리 상태(ACCEPTED/COMPLETED/FAILED)를 조회합니다")
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<ApiResponse<OrderTicketResponse>> getOrderTicket(@PathVariable String ticketId) {
+        log.info("주문 접수 조회 요청: {}", ticketId);
+
+        OrderTicketResponse response = orderAccept.getTicket(ticketId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "주문 접수 구독",
+            description = "비동기로 접수한 주문을 SSE로 구독합니다. 첫 ticket 이벤트로 현재 상태를, 처리가 끝나면 결과를 ticket 이벤트로 받습니다")
+    @GetMapping(value = "/tickets/{ticketId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderTicket(@PathVariable String ticketId) {
+        log.info("주문 접수 구독 요청: {}", ticketId);
+
+        return orderAccept.subscribe(ticketId);
+    }
+
     @Operation(summary = "주문 상세 조회", description = "특정 주문의 상세 정보를 조회합니다")
     @GetMapping("/{orderId}")
     public ResponseEntity<ApiResponse<OrderResponse>> getOrder(@PathVariable Long orderId) {
@@ -76,21 +125,64 @@ public class OrderController {
 
     // ===== 관리자용 API =====
 
-    @Operation(summary = "관리자용 주문 목록 조회", description = "관리자용 주문 목록을 조회합니다")
+    @Operation(summary = "관리자용 주문 목록 조회",
+            description = "상태/테이블/기간(시작 이상, 종료 미만)으로 주문을 최신순 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘깁니다")
     @GetMapping("/admin")
-    public ResponseEntity<ApiResponse<Page<OrderResponse>>> getOrdersForAdmin(
+    public ResponseEntity<ApiResponse<CursorPageResponse<OrderResponse>>> getOrdersForAdmin(
             @RequestParam(required = false) OrderStatus status,
-            @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate,
-            @PageableDefault(size = 20) Pageable pageable) {
-        log.info("관리자용 주문 목록 조회 요청: status={}", status);
-        
-        // 실제로는 날짜 파싱이 필요하지만 임시로 null로 처리
-        Page<OrderResponse> response = orderService.getOrdersForAdmin(status, null, null, pageable);
-        
+            @RequestParam(required = false) Long tableId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.info("관리자용 주문 목록 조회 요청: status={}, tableId={}", status, tableId);
+
+        CursorPageResponse<OrderResponse> response =
+                orderService.getOrdersForAdmin(status, tableId, startDate, endDate, cursor, size);
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "주문 보관 실행",
+            description = "보관 기간이 지난 완료/취소 주문을 보관 테이블로 옮깁니다. 보관된 주문도 주문 조회와 관리자 목록에서 조회됩니다")
+    @PostMapping("/admin/archive")
+    public ResponseEntity<ApiResponse<OrderArchiveResponse>> archiveOrders() {
+        log.info("주문 보관 실행 요청");
+
+        OrderArchiveResponse response = orderService.archiveOrders();
+
+        return ResponseEntity.ok(ApiResponse.success("주문 보관이 완료되었습니다", response));
+    }
+
+    @Operation(summary = "주방 보드 조회", description = "진행 중인 주문(대기/준비중/준비완료)을 주문 순으로 조회합니다")
+    @GetMapping("/admin/kitchen")
+    public ResponseEntity<ApiResponse<List<KitchenOrderResponse>>> getKitchenOrders() {
+        log.info("주방 보드 조회 요청");
+
+        List<KitchenOrderResponse> response = orderService.getKitchenOrders();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "주방 보드 구독",
+            description = "주방 보드를 SSE로 구독합니다. 첫 snapshot 이벤트로 진행 중인 주문 전체를, 이후 order 이벤트로 추가/상태 변경/제거를 받습니다")
+    @GetMapping(value = "/admin/kitchen/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamKitchenOrders() {
+        log.info("주방 보드 구독 요청");
+
+        return orderService.subscribeKitchen();
+    }
+
+    @Operation(summary = "주문 이벤트 구독 (SSE)",
+            description = "주문 생성/상태 변경을 order 이벤트(id = sequence)로 받습니다. 재연결 시 Last-Event-ID 이후 놓친 이벤트를 replay 이벤트로 먼저 보냅니다")
+    @GetMapping(value = "/admin/events/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("주문 이벤트 구독 요청: Last-Event-ID={}", lastEventId);
+
+        return orderService.subscribeOrderEvents(lastEventId);
+    }
+
     @Operation(summary = "주문 상태 변경", description = "주문의 상태를 변경합니다")
     @PatchMapping("/{orderId}/status")
     public ResponseEntity<ApiResponse<OrderResponse>> updateOrderStatus(
@@ -105,21 +197,27 @@ public class OrderController {
 
     @Operation(summary = "오늘 주문 통계", description = "오늘의 주문 통계를 조회합니다")
     @GetMapping("/stats/today")
-    public ResponseEntity<ApiResponse<String>> getTodayOrderStats() {
+    public ResponseEntity<ApiResponse<DailyOrderStatsResponse>> getTodayOrderStats() {
         log.info("오늘 주문 통계 조회 요청");
         
-        String stats = orderService.getTodayOrderStats();
+        DailyOrderStatsResponse stats = orderService.getTodayOrderStats();
         
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
     @Operation(summary = "상태별 주문 개수 조회", description = "각 상태별 주문 개수를 조회합니다")
     @GetMapping("/stats/status-count")
-    public ResponseEntity<ApiResponse<String>> getOrderStatusCounts() {
+    public ResponseEntity<ApiResponse<OrderStatusCountResponse>> getOrderStatusCounts() {
         log.info("상태별 주문 개수 조회 요청");
         
-        String statusCounts = orderService.getOrderStatusCounts();
+        OrderStatusCountResponse statusCounts = orderService.getOrderStatusCounts();
         
         return ResponseEntity.ok(ApiResponse.success(statusCounts));
     }
-} 
\ No newline at end of file
+
+    private static ResponseEntity<ApiResponse<?>> acceptedOrder(OrderTicketResponse ticket) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/tickets/" + ticket.getTicketId()))
+                .body(ApiResponse.success("주문이 접수되었습니다", ticket));
+    }
+}
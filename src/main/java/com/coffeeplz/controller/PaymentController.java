@@ -83,10 +83,10 @@ public class PaymentController {
 
     @Operation(summary = "오늘 결제 통계", description = "오늘의 결제 통계를 조회합니다")
     @GetMapping("/stats/today")
-    public ResponseEntity<ApiResponse<String>> getTodayPaymentStats() {
+    public ResponseEntity<ApiResponse<DailyPaymentStatsResponse>> getTodayPaymentStats() {
         log.info("오늘 결제 통계 조회 요청");
         
-        String stats = paymentService.getTodayPaymentStats();
+        DailyPaymentStatsResponse stats = paymentService.getTodayPaymentStats();
         
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
@@ -8,11 +8,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Optional;
 
 @Tag(name = "테이블 관리", description = "QR 테이블 스캔 및 관리 API")
 @RestController
@@ -49,12 +53,22 @@ public class TableController {
 
     @Operation(summary = "테이블 상세 조회", description = "특정 테이블의 상세 정보를 조회합니다")
     @GetMapping("/{tableId}")
-    public ResponseEntity<ApiResponse<TableResponse>> getTable(@PathVariable Long tableId) {
+    public ResponseEntity<ApiResponse<TableResponse>> getTable(
+            @PathVariable Long tableId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("테이블 상세 조회 요청: {}", tableId);
         
+        Optional<String> etag = tableService.getTableLastModified(tableId)
+                .map(updatedAt -> tableEtag(tableId, updatedAt));
+        if (etag.isPresent() && ConditionalRequests.matches(ifNoneMatch, etag.get())) {
+            return ConditionalRequests.notModified(etag.get());
+        }
+        
         TableResponse response = tableService.getTableById(tableId);
         
-        return ResponseEntity.ok(ApiResponse.success(response));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE);
+        etag.ifPresent(builder::eTag);
+        return builder.body(ApiResponse.success(response));
     }
 
     @Operation(summary = "테이블 생성", description = "새로운 테이블을 생성합니다")
@@ -124,4 +138,12 @@ public class TableController {
         
         return ResponseEntity.ok(ApiResponse.success("QR 코드가 재생성되었습니다", newQrCode));
     }
-} 
\ No newline at end of file
+
+    /**
+     * 테이블 최종 수정 시각 기반 강한 ETag
+     */
+    private String tableEtag(Long tableId, LocalDateTime updatedAt) {
+        return ConditionalRequests.strongEtag("table-" + tableId + "-"
+                + updatedAt.toEpochSecond(ZoneOffset.UTC) + "." + updatedAt.getNano());
+    }
+}
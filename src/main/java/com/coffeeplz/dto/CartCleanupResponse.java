@@ -0,0 +1,23 @@
+package com.coffeeplz.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "만료 장바구니 정리 결과")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartCleanupResponse {
+    @Schema(description = "메모리에서 내린 장바구니 수 (인메모리 저장소)", example = "3")
+    private int evictedCarts;
+    @Schema(description = "DB에서 삭제한 장바구니 수", example = "120")
+    private int purgedCarts;
+    @Schema(description = "삭제에 사용한 청크(트랜잭션) 수", example = "2")
+    private int chunks;
+    @Schema(description = "정리에 걸린 시간(ms)", example = "215")
+    private long elapsedMillis;
+}
@@ -0,0 +1,37 @@
+package com.coffeeplz.dto;
+
+import com.coffeeplz.entity.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "테이블 장바구니 변경 이벤트 (SSE delta)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartEventResponse {
+    @Schema(description = "변경 종류", example = "ITEM_ADDED")
+    private Type type;
+    @Schema(description = "테이블 ID", example = "1")
+    private Long tableId;
+    @Schema(description = "추가/변경된 아이템 (ITEM_ADDED, QUANTITY_CHANGED)")
+    private CartItemResponse item;
+    @Schema(description = "삭제된 아이템 ID (ITEM_REMOVED)", example = "42")
+    private Long removedItemId;
+    @Schema(description = "변경 후 장바구니 총 금액", example = "10500")
+    private Money totalAmount;
+    @Schema(description = "변경 시각")
+    private LocalDateTime occurredAt;
+
+    public enum Type {
+        ITEM_ADDED,
+        QUANTITY_CHANGED,
+        ITEM_REMOVED,
+        CLEARED
+    }
+}
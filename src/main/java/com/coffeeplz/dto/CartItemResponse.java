@@ -1,11 +1,11 @@
 package com.coffeeplz.dto;
 
+import com.coffeeplz.entity.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @Getter
@@ -17,7 +17,7 @@ public class CartItemResponse {
     private MenuResponse menu;
     private int quantity;
     private List<MenuOptionResponse> selectedOptions;
-    private BigDecimal unitPrice;
-    private BigDecimal totalPrice;
+    private Money unitPrice;
+    private Money totalPrice;
     private String specialInstructions;
 } 
\ No newline at end of file
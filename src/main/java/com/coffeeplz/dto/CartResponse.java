@@ -1,11 +1,11 @@
 package com.coffeeplz.dto;
 
+import com.coffeeplz.entity.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,7 +18,7 @@ public class CartResponse {
     private TableResponse table;
     private String sessionId;
     private List<CartItemResponse> cartItems;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private LocalDateTime expiresAt;
     private LocalDateTime createdAt;
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.coffeeplz.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지 (전체 개수는 세지 않음)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> content;
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+    @Schema(description = "다음 페이지가 있는지 여부", example = "true")
+    private boolean hasNext;
+    @Schema(description = "다음 페이지 요청에 넘길 커서 (마지막 페이지면 null)", example = "MjAyNC0wMS0xNVQxMDozMDowMHw0Mg")
+    private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package com.coffeeplz.dto;
+
+import com.coffeeplz.entity.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Schema(description = "오늘 주문 통계")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyOrderStatsResponse {
+    @Schema(description = "집계 일자 (Asia/Seoul)", example = "2024-01-15")
+    private LocalDate date;
+    @Schema(description = "오늘 주문 수", example = "120")
+    private long orderCount;
+    @Schema(description = "오늘 주문 중 완료 수", example = "98")
+    private long completedCount;
+    @Schema(description = "완료 주문 매출", example = "512000")
+    private Money revenue;
+}
@@ -0,0 +1,38 @@
+package com.coffeeplz.dto;
+
+import com.coffeeplz.entity.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Schema(description = "오늘 결제 통계")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyPaymentStatsResponse {
+    @Schema(description = "집계 일자 (Asia/Seoul)", example = "2024-01-15")
+    private LocalDate date;
+    @Schema(description = "완료된 결제 수", example = "95")
+    private long paymentCount;
+    @Schema(description = "완료된 결제 총액", example = "498000")
+    private Money totalAmount;
+    @Schema(description = "결제 수단별 집계 (CARD, CASH 등)")
+    private Map<String, MethodStats> byMethod;
+
+    @Schema(description = "결제 수단별 집계")
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MethodStats {
+        @Schema(description = "결제 수", example = "80")
+        private long count;
+        @Schema(description = "결제 금액", example = "420000")
+        private Money amount;
+    }
+}
@@ -0,0 +1,29 @@
+package com.coffeeplz.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "주방 보드 변경 이벤트 (SSE order)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KitchenEventResponse {
+    @Schema(description = "변경 종류", example = "ADDED")
+    private Type type;
+    @Schema(description = "변경 후 주문 (REMOVED는 완료/취소된 상태)")
+    private KitchenOrderResponse order;
+    @Schema(description = "변경 시각")
+    private LocalDateTime occurredAt;
+
+    public enum Type {
+        ADDED,
+        STATUS_CHANGED,
+        REMOVED
+    }
+}
@@ -0,0 +1,48 @@
+package com.coffeeplz.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "주방 보드 주문 (조리 화면용 요약)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class KitchenOrderResponse {
+    @Schema(description = "주문 ID", example = "1")
+    private Long orderId;
+    @Schema(description = "테이블 ID", example = "1")
+    private Long tableId;
+    @Schema(description = "테이블 번호", example = "A-1")
+    private String tableNumber;
+    @Schema(description = "주문 상태", example = "PENDING")
+    private String status;
+    @Schema(description = "주문 메뉴")
+    private List<Item> items;
+    @Schema(description = "주문 요청사항", example = "얼음 적게")
+    private String orderNotes;
+    @Schema(description = "주문 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "주방 보드 주문 메뉴")
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        @Schema(description = "메뉴 ID", example = "1")
+        private Long menuId;
+        @Schema(description = "메뉴명", example = "아메리카노")
+        private String menuName;
+        @Schema(description = "수량", example = "2")
+        private Integer quantity;
+        @Schema(description = "메뉴 요청사항", example = "샷 추가")
+        private String notes;
+    }
+}
@@ -0,0 +1,31 @@
+package com.coffeeplz.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "메뉴 카탈로그 변경분 동기화 응답")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuCatalogSyncResponse {
+    @Schema(description = "클라이언트가 보낸 카탈로그 버전", example = "1718000000000")
+    private long fromVersion;
+    @Schema(description = "현재 카탈로그 버전 (다음 동기화 시 전달)", example = "1718000000042")
+    private long version;
+    @Schema(description = "전체 스냅샷 여부 (true면 기존 로컬 카탈로그를 모두 교체)", example = "false")
+    private boolean fullSnapshot;
+    @Schema(description = "추가/변경된 카테고리")
+    private List<CategoryResponse> categories;
+    @Schema(description = "삭제/비활성화된 카테고리 ID")
+    private List<Long> removedCategoryIds;
+    @Schema(description = "추가/변경된 메뉴 (옵션 포함)")
+    private List<MenuResponse> menus;
+    @Schema(description = "삭제/품절된 메뉴 ID")
+    private List<Long> removedMenuIds;
+}
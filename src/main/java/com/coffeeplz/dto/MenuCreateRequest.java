@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -31,6 +32,7 @@ public class MenuCreateRequest {
     @Schema(description = "가격", example = "4500", required = true)
     @NotNull(message = "가격은 필수입니다")
     @DecimalMin(value = "0.0", inclusive = false, message = "가격은 0보다 커야 합니다")
+    @Digits(integer = 8, fraction = 0, message = "가격은 원 단위여야 합니다")
     private BigDecimal price;
     
     @Schema(description = "이미지 URL", example = "https://example.com/americano.jpg")
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -28,6 +29,7 @@ public class MenuOptionCreateRequest {
     private String description;
     
     @DecimalMin(value = "0.0", message = "추가 가격은 0 이상이어야 합니다")
+    @Digits(integer = 8, fraction = 0, message = "추가 가격은 원 단위여야 합니다")
     @Builder.Default
     private BigDecimal additionalPrice = BigDecimal.ZERO;
     
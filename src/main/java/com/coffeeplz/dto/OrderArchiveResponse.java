@@ -0,0 +1,25 @@
+package com.coffeeplz.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "주문 보관 결과")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderArchiveResponse {
+    @Schema(description = "보관 테이블로 옮긴 주문 수", example = "1200")
+    private int archivedOrders;
+    @Schema(description = "사용한 배치(트랜잭션) 수", example = "6")
+    private int batches;
+    @Schema(description = "보관 기준 시각 (이전에 생성된 완료/취소 주문이 대상)")
+    private LocalDateTime cutoff;
+    @Schema(description = "보관에 걸린 시간(ms)", example = "1830")
+    private long elapsedMillis;
+}
@@ -0,0 +1,35 @@
+package com.coffeeplz.dto;
+
+import com.coffeeplz.entity.Money;
+import com.coffeeplz.entity.OrderEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "주문 이벤트 (SSE order, 애플리케이션 이벤트)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class OrderEventResponse {
+    @Schema(description = "이벤트 번호 (SSE id, 발행 순서대로 증가, 중복 수신 판별용)", example = "101")
+    private Long sequence;
+    @Schema(description = "이벤트 종류", example = "STATUS_CHANGED")
+    private OrderEventType type;
+    @Schema(description = "주문 ID", example = "1")
+    private Long orderId;
+    @Schema(description = "테이블 ID", example = "1")
+    private Long tableId;
+    @Schema(description = "변경 전 상태 (PLACED는 null)", example = "PENDING")
+    private String previousStatus;
+    @Schema(description = "변경 후 상태", example = "PREPARING")
+    private String status;
+    @Schema(description = "주문 총액", example = "9000")
+    private Money totalAmount;
+    @Schema(description = "발생 시각")
+    private LocalDateTime occurredAt;
+}
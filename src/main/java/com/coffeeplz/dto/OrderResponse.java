@@ -1,11 +1,11 @@
 package com.coffeeplz.dto;
 
+import com.coffeeplz.entity.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,7 +20,7 @@ public class OrderResponse {
     private List<OrderItemResponse> orderItems;
     private String orderType;
     private String status;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private String customerNote;
     private PaymentResponse payment;
     private LocalDateTime orderTime;
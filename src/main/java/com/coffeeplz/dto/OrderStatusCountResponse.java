@@ -0,0 +1,27 @@
+package com.coffeeplz.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "주문 상태별 개수")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusCountResponse {
+    @Schema(description = "대기중", example = "3")
+    private long pending;
+    @Schema(description = "준비중", example = "2")
+    private long preparing;
+    @Schema(description = "준비완료", example = "1")
+    private long ready;
+    @Schema(description = "완료", example = "1520")
+    private long completed;
+    @Schema(description = "취소", example = "14")
+    private long cancelled;
+    @Schema(description = "전체", example = "1540")
+    private long total;
+}
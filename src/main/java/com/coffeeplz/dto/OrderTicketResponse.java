@@ -0,0 +1,31 @@
+package com.coffeeplz.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "주문 접수 번호와 처리 결과 (SSE ticket)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderTicketResponse {
+    @Schema(description = "접수 번호", example = "3f1c2a9e-8d4b-4c51-9a57-0b6f2e1d7c44")
+    private String ticketId;
+    @Schema(description = "테이블 ID", example = "1")
+    private Long tableId;
+    @Schema(description = "처리 상태 (ACCEPTED, COMPLETED, FAILED)", example = "COMPLETED")
+    private String status;
+    @Schema(description = "생성된 주문 ID (COMPLETED일 때)", example = "1")
+    private Long orderId;
+    @Schema(description = "실패 사유 (FAILED일 때)", example = "사용중이 아닌 테이블입니다")
+    private String failureReason;
+    @Schema(description = "접수 시각")
+    private LocalDateTime acceptedAt;
+    @Schema(description = "처리 완료 시각 (ACCEPTED이면 null)")
+    private LocalDateTime completedAt;
+}
@@ -1,15 +1,15 @@
 package com.coffeeplz.dto;
 
+import com.coffeeplz.entity.MinAmount;
+import com.coffeeplz.entity.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import java.math.BigDecimal;
 
 @Getter
 @NoArgsConstructor
@@ -25,6 +25,6 @@ public class PaymentRequest {
     private String paymentMethod; // CARD, CASH, MOBILE
     
     @NotNull(message = "결제 금액은 필수입니다")
-    @DecimalMin(value = "0.0", inclusive = false, message = "결제 금액은 0보다 커야 합니다")
-    private BigDecimal amount;
+    @MinAmount(value = 0, inclusive = false, message = "결제 금액은 0보다 커야 합니다")
+    private Money amount;
 } 
\ No newline at end of file
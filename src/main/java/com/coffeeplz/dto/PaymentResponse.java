@@ -1,11 +1,11 @@
 package com.coffeeplz.dto;
 
+import com.coffeeplz.entity.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -16,7 +16,7 @@ public class PaymentResponse {
     private Long id;
     private Long orderId;
     private String paymentMethod;
-    private BigDecimal amount;
+    private Money amount;
     private String status;
     private String transactionId;
     private LocalDateTime paymentTime;
@@ -4,12 +4,15 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "cart")
+@Table(name = "cart", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cart_table", columnNames = "table_id")
+}, indexes = {
+        @Index(name = "idx_cart_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -61,10 +64,8 @@ public class Cart extends BaseEntity {
         cartItems.clear();
     }
 
-    public BigDecimal getTotalAmount() {
-        return cartItems.stream()
-                .map(CartItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public Money getTotalAmount() {
+        return Money.sum(cartItems, CartItem::getSubtotal);
     }
 
     public Integer getTotalItemCount() {
@@ -1,15 +1,16 @@
 package com.coffeeplz.entity;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.math.BigDecimal;
-
 @Entity
-@Table(name = "cart_items")
+@Table(name = "cart_items", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cart_items_cart_menu", columnNames = {"cart_id", "menu_id"})
+}, indexes = {
+        @Index(name = "idx_cart_items_cart_updated_at", columnList = "cart_id, updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,7 +19,7 @@ import java.math.BigDecimal;
 public class CartItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "cart_item_id")
     private Long id;
 
@@ -38,21 +39,21 @@ public class CartItem extends BaseEntity {
     private Integer quantity;
 
     @NotNull(message = "단가는 필수입니다")
-    @DecimalMin(value = "0.0", inclusive = false, message = "단가는 0보다 커야 합니다")
+    @MinAmount(value = 0, inclusive = false, message = "단가는 0보다 커야 합니다")
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @NotNull(message = "소계는 필수입니다")
-    @DecimalMin(value = "0.0", message = "소계는 0 이상이어야 합니다")
+    @MinAmount(value = 0, message = "소계는 0 이상이어야 합니다")
     @Column(name = "subtotal", nullable = false, precision = 10, scale = 2)
-    private BigDecimal subtotal;
+    private Money subtotal;
 
     @Column(name = "notes", length = 200)
     private String notes;
 
     // 비즈니스 메서드
     public void calculateSubtotal() {
-        this.subtotal = this.unitPrice.multiply(BigDecimal.valueOf(this.quantity));
+        this.subtotal = this.unitPrice.times(this.quantity);
     }
 
     public void updateQuantity(Integer quantity) {
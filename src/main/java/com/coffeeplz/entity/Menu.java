@@ -52,6 +52,16 @@ public class Menu extends BaseEntity {
     @Builder.Default
     private Integer stockQuantity = 0;
 
+    // true인 메뉴만 stockQuantity로 판매 수량을 제한한다
+    @Column(name = "is_stock_managed", nullable = false)
+    @Builder.Default
+    private Boolean isStockManaged = false;
+
+    // 재고 소진으로 판매 중지된 상태 (재고가 돌아오면 이 경우에만 판매를 재개하고, 관리자가 중지한 메뉴는 그대로 둔다)
+    @Column(name = "is_sold_out", nullable = false)
+    @Builder.Default
+    private Boolean isSoldOut = false;
+
     @DecimalMin(value = "0.0", message = "평점은 0 이상이어야 합니다")
     @DecimalMax(value = "5.0", message = "평점은 5 이하여야 합니다")
     @Column(name = "average_rating", precision = 3, scale = 2)
@@ -96,6 +106,17 @@ public class Menu extends BaseEntity {
         this.stockQuantity = stockQuantity;
     }
 
+    public void manageStock(Integer stockQuantity) {
+        this.isStockManaged = true;
+        this.stockQuantity = stockQuantity;
+        this.isAvailable = stockQuantity > 0;
+        this.isSoldOut = stockQuantity == 0;
+    }
+
+    public void stopManagingStock() {
+        this.isStockManaged = false;
+    }
+
     public void decreaseStock(Integer quantity) {
         if (this.stockQuantity < quantity) {
             throw new IllegalArgumentException("재고가 부족합니다");
@@ -109,10 +130,12 @@ public class Menu extends BaseEntity {
 
     public void makeAvailable() {
         this.isAvailable = true;
+        this.isSoldOut = false;
     }
 
     public void makeUnavailable() {
         this.isAvailable = false;
+        this.isSoldOut = false;
     }
 
 
@@ -0,0 +1,52 @@
+package com.coffeeplz.entity;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link Money} 최소 금액 검증 (@DecimalMin 대응, null은 통과)
+ */
+@Documented
+@Constraint(validatedBy = MinAmount.Validator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MinAmount {
+
+    long value();
+
+    boolean inclusive() default true;
+
+    String message() default "금액이 너무 작습니다";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<MinAmount, Money> {
+
+        private long min;
+        private boolean inclusive;
+
+        @Override
+        public void initialize(MinAmount annotation) {
+            this.min = annotation.value();
+            this.inclusive = annotation.inclusive();
+        }
+
+        @Override
+        public boolean isValid(Money money, ConstraintValidatorContext context) {
+            if (money == null) {
+                return true;
+            }
+            return inclusive ? money.longValue() >= min : money.longValue() > min;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.coffeeplz.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 원(KRW) 단위 금액
+ *
+ * 원화는 소수 단위가 없으므로 long 하나로 들고 계산한다 (오버플로는 ArithmeticException).
+ * DB 컬럼은 기존 DECIMAL 그대로 두고 {@link MoneyConverter}가 변환한다.
+ * 원 미만 값이 남아 있는 행은 읽을 때 예외가 나므로 배포 전에 scripts/money-whole-won.sql로 확인/정리한다.
+ */
+@Schema(type = "integer", format = "int64", description = "금액 (원)", example = "4500")
+public final class Money implements Comparable<Money>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final Money ZERO = new Money(0);
+
+    private final long won;
+
+    private Money(long won) {
+        this.won = won;
+    }
+
+    public static Money won(long won) {
+        return won == 0 ? ZERO : new Money(won);
+    }
+
+    /**
+     * BigDecimal 금액 변환 (원 미만 단위가 있으면 예외)
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return won(amount.setScale(0, RoundingMode.UNNECESSARY).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("금액은 원 단위여야 합니다: " + amount);
+        }
+    }
+
+    /**
+     * 목록의 금액 합계 (중간 결과를 만들지 않고 long으로 더한다)
+     */
+    public static <T> Money sum(List<T> items, Function<? super T, Money> amount) {
+        long total = 0;
+        for (int i = 0, size = items.size(); i < size; i++) {
+            total = Math.addExact(total, amount.apply(items.get(i)).won);
+        }
+        return won(total);
+    }
+
+    /**
+     * 목록의 단가 × 수량 합계 (항목별 소계 Money를 만들지 않고 long으로 계산)
+     */
+    public static <T> Money sumOfProducts(List<T> items, Function<? super T, Money> unitPrice,
+                                          ToIntFunction<? super T> quantity) {
+        long total = 0;
+        for (int i = 0, size = items.size(); i < size; i++) {
+            T item = items.get(i);
+            total = Math.addExact(total, Math.multiplyExact(unitPrice.apply(item).won, quantity.applyAsInt(item)));
+        }
+        return won(total);
+    }
+
+    public long longValue() {
+        return won;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(won);
+    }
+
+    public Money plus(Money other) {
+        return won(Math.addExact(won, other.won));
+    }
+
+    public Money minus(Money other) {
+        return won(Math.subtractExact(won, other.won));
+    }
+
+    public Money times(int quantity) {
+        return won(Math.multiplyExact(won, quantity));
+    }
+
+    public boolean isPositive() {
+        return won > 0;
+    }
+
+    public boolean isNegative() {
+        return won < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(won, other.won);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && won == other.won);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(won);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(won);
+    }
+}
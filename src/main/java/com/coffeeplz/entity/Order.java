@@ -1,16 +1,18 @@
 package com.coffeeplz.entity;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_orders_table_created_at", columnList = "table_id, created_at"),
+        @Index(name = "idx_orders_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,7 +21,7 @@ import java.util.List;
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "order_id")
     private Long id;
 
@@ -33,18 +35,18 @@ public class Order extends BaseEntity {
     private CafeTable table;
 
     @NotNull(message = "총 금액은 필수입니다")
-    @DecimalMin(value = "0.0", inclusive = false, message = "총 금액은 0보다 커야 합니다")
+    @MinAmount(value = 0, inclusive = false, message = "총 금액은 0보다 커야 합니다")
     @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
-    @DecimalMin(value = "0.0", message = "사용 포인트는 0 이상이어야 합니다")
+    @MinAmount(value = 0, message = "사용 포인트는 0 이상이어야 합니다")
     @Column(name = "used_points", nullable = false, precision = 10, scale = 2)
     @Builder.Default
-    private BigDecimal usedPoints = BigDecimal.ZERO;
+    private Money usedPoints = Money.ZERO;
 
-    @DecimalMin(value = "0.0", message = "실제 결제 금액은 0 이상이어야 합니다")
+    @MinAmount(value = 0, message = "실제 결제 금액은 0 이상이어야 합니다")
     @Column(name = "payment_amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal paymentAmount;
+    private Money paymentAmount;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
@@ -76,10 +78,8 @@ public class Order extends BaseEntity {
     }
 
     public void calculateTotalAmount() {
-        this.totalAmount = orderItems.stream()
-                .map(OrderItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        this.paymentAmount = this.totalAmount.subtract(this.usedPoints);
+        this.totalAmount = Money.sum(orderItems, OrderItem::getSubtotal);
+        this.paymentAmount = this.totalAmount.minus(this.usedPoints);
     }
 
     public void updateStatus(OrderStatus status) {
@@ -90,9 +90,9 @@ public class Order extends BaseEntity {
         this.orderNotes = orderNotes;
     }
 
-    public void applyPoints(BigDecimal points) {
+    public void applyPoints(Money points) {
         this.usedPoints = points;
-        this.paymentAmount = this.totalAmount.subtract(points);
+        this.paymentAmount = this.totalAmount.minus(points);
     }
 
     public boolean canCancel() {
@@ -0,0 +1,68 @@
+package com.coffeeplz.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 완료/취소 주문 (orders에서 옮겨 온 읽기 전용 사본)
+ *
+ * 운영 DB에서는 created_at 기준 월별 RANGE 파티션 테이블이며 (scripts/order-archive-partitions.sql),
+ * MySQL 파티션 테이블은 외래 키를 가질 수 없으므로 연관은 제약 없이 매핑한다.
+ */
+@Entity
+@Immutable
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_orders_archive_table_created_at", columnList = "table_id, created_at"),
+        @Index(name = "idx_orders_archive_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderArchive {
+
+    @Id
+    @Column(name = "order_id")
+    private Long id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "table_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private CafeTable table;
+
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private Money totalAmount;
+
+    @Column(name = "used_points", nullable = false, precision = 10, scale = 2)
+    private Money usedPoints;
+
+    @Column(name = "payment_amount", nullable = false, precision = 10, scale = 2)
+    private Money paymentAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "order_notes", length = 500)
+    private String orderNotes;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @OneToMany(mappedBy = "order")
+    private List<OrderItemArchive> orderItems = new ArrayList<>();
+}
@@ -0,0 +1,13 @@
+package com.coffeeplz.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderEventType {
+    PLACED("주문 생성"),
+    STATUS_CHANGED("상태 변경");
+
+    private final String description;
+}
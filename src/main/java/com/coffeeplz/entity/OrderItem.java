@@ -1,12 +1,10 @@
 package com.coffeeplz.entity;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,7 +18,7 @@ import java.util.List;
 public class OrderItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "order_item_id")
     private Long id;
 
@@ -40,14 +38,14 @@ public class OrderItem extends BaseEntity {
     private Integer quantity;
 
     @NotNull(message = "단가는 필수입니다")
-    @DecimalMin(value = "0.0", inclusive = false, message = "단가는 0보다 커야 합니다")
+    @MinAmount(value = 0, inclusive = false, message = "단가는 0보다 커야 합니다")
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @NotNull(message = "소계는 필수입니다")
-    @DecimalMin(value = "0.0", message = "소계는 0 이상이어야 합니다")
+    @MinAmount(value = 0, message = "소계는 0 이상이어야 합니다")
     @Column(name = "subtotal", nullable = false, precision = 10, scale = 2)
-    private BigDecimal subtotal;
+    private Money subtotal;
 
     @Column(name = "notes", length = 200)
     private String notes;
@@ -59,7 +57,7 @@ public class OrderItem extends BaseEntity {
 
     // 비즈니스 메서드
     public void calculateSubtotal() {
-        this.subtotal = this.unitPrice.multiply(BigDecimal.valueOf(this.quantity));
+        this.subtotal = this.unitPrice.times(this.quantity);
     }
 
     public void updateQuantity(Integer quantity) {
@@ -15,7 +15,7 @@ import lombok.*;
 public class OrderItemOption extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "order_item_option_id")
     private Long id;
 
@@ -0,0 +1,41 @@
+package com.coffeeplz.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 주문 아이템 옵션 (order_item_options에서 옮겨 온 읽기 전용 사본)
+ */
+@Entity
+@Immutable
+@Table(name = "order_item_options_archive", indexes = {
+        @Index(name = "idx_order_item_options_archive_item", columnList = "order_item_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderItemOptionArchive {
+
+    @Id
+    @Column(name = "order_item_option_id")
+    private Long id;
+
+    @Column(name = "order_item_id", nullable = false)
+    private Long orderItemId;
+
+    @Column(name = "menu_option_id", nullable = false)
+    private Long menuOptionId;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
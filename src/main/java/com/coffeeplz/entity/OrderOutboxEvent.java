@@ -0,0 +1,55 @@
+package com.coffeeplz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 outbox (주문 변경과 같은 트랜잭션에서 기록하고 OrderOutboxRelay가 발행)
+ *
+ * 주문이 보관 테이블로 옮겨져도 남아야 하므로 orders에 외래 키를 두지 않는다.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_published_at", columnList = "published_at, outbox_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderOutboxEvent {
+
+    @Id
+    @TimeOrderedId
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "table_id", nullable = false)
+    private Long tableId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private OrderEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", length = 20)
+    private OrderStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private Money totalAmount;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // 발행 전에는 null
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,48 @@
+package com.coffeeplz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기로 접수한 주문의 처리 결과 (OrderAccept가 주문과 같은 트랜잭션에서 기록)
+ *
+ * 처리가 끝난 접수 번호만 기록되므로, 재기동 후 접수 저널을 다시 처리할 때 이미 주문된 접수를 걸러내는 데도 쓴다.
+ * 주문이 보관 테이블로 옮겨져도 남아야 하므로 orders에 외래 키를 두지 않는다.
+ */
+@Entity
+@Table(name = "order_tickets", indexes = {
+        @Index(name = "idx_order_tickets_completed_at", columnList = "completed_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderTicket {
+
+    @Id
+    @Column(name = "ticket_id", length = 36)
+    private String id;
+
+    @Column(name = "table_id", nullable = false)
+    private Long tableId;
+
+    // COMPLETED 또는 FAILED (접수 중인 건은 저장하지 않는다)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderTicketStatus status;
+
+    // 주문에 실패하면 null
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "accepted_at", nullable = false)
+    private LocalDateTime acceptedAt;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
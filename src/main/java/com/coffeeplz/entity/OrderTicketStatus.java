@@ -0,0 +1,14 @@
+package com.coffeeplz.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderTicketStatus {
+    ACCEPTED("접수됨"),
+    COMPLETED("주문 완료"),
+    FAILED("주문 실패");
+
+    private final String description;
+}
@@ -1,13 +1,11 @@
 package com.coffeeplz.entity;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -20,7 +18,7 @@ import java.time.LocalDateTime;
 public class Payment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "payment_id")
     private Long id;
 
@@ -35,9 +33,9 @@ public class Payment extends BaseEntity {
     private String paymentMethod; // CARD, CASH, MOBILE, etc.
 
     @NotNull(message = "결제 금액은 필수입니다")
-    @DecimalMin(value = "0.0", inclusive = false, message = "결제 금액은 0보다 커야 합니다")
+    @MinAmount(value = 0, inclusive = false, message = "결제 금액은 0보다 커야 합니다")
     @Column(name = "amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal amount;
+    private Money amount;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
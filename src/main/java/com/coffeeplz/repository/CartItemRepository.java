@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +39,20 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     @Query("DELETE FROM CartItem ci WHERE ci.cart = :cart")
     void deleteByCart(@Param("cart") Cart cart);
     
+    /**
+     * 장바구니 ID 목록 중 아직 만료 상태인 장바구니의 아이템 일괄 삭제 (만료 정리용)
+     *
+     * 후보를 고른 뒤 아이템을 담았을 수 있으므로 만료 조건을 다시 확인한다.
+     * MySQL은 DELETE 대상 테이블을 서브쿼리에서 바로 읽지 못하므로(1093) 새 아이템은 DISTINCT 파생 테이블로 먼저 구체화한다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM cart_items WHERE cart_id IN (:cartIds) " +
+                   "AND cart_id IN (SELECT cart_id FROM cart WHERE cart_id IN (:cartIds) AND updated_at < :cutoff) " +
+                   "AND cart_id NOT IN (SELECT cart_id FROM (SELECT DISTINCT cart_id FROM cart_items " +
+                   "WHERE cart_id IN (:cartIds) AND updated_at >= :cutoff) fresh)",
+           nativeQuery = true)
+    int deleteExpiredByCartIdIn(@Param("cartIds") List<Long> cartIds, @Param("cutoff") LocalDateTime cutoff);
+
     /**
      * 장바구니의 총 아이템 수 조회
      */
@@ -48,4 +64,44 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      */
     @Query("SELECT COALESCE(SUM(ci.quantity), 0) FROM CartItem ci WHERE ci.cart = :cart")
     Integer getTotalQuantityByCart(@Param("cart") Cart cart);
-} 
\ No newline at end of file
+
+    /**
+     * 테이블 장바구니에 메뉴 추가, 이미 있으면 수량만 증가 (cart_id, menu_id 유니크 제약 기준)
+     *
+     * 기존 아이템은 담을 때의 단가를 유지한다. 테이블 장바구니가 없으면 0을 돌려준다.
+     * 새 아이템의 ID는 엔티티와 같은 생성기에서 받아 넘긴다 (cart_item_id는 자동 증가가 아님).
+     * 더할 수량과 변경 시각은 VALUES()(MySQL 8.0.20부터 deprecated)나 별칭 대신 파라미터로 다시 넘긴다.
+     * MySQL과 개발/테스트 H2(MySQL 모드)가 같은 문장을 실행한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cart_items (cart_item_id, cart_id, menu_id, quantity, unit_price, subtotal, notes, created_at, updated_at) " +
+                   "SELECT :id, src.cart_id, :menuId, :quantity, :unitPrice, :subtotal, :notes, :now, :now " +
+                   "FROM (SELECT cart_id FROM cart WHERE table_id = :tableId) src " +
+                   "ON DUPLICATE KEY UPDATE subtotal = cart_items.unit_price * (cart_items.quantity + :quantity), " +
+                   "quantity = cart_items.quantity + :quantity, updated_at = :now",
+           nativeQuery = true)
+    int upsertQuantityByTable(@Param("id") Long id,
+                              @Param("tableId") Long tableId,
+                              @Param("menuId") Long menuId,
+                              @Param("quantity") int quantity,
+                              @Param("unitPrice") BigDecimal unitPrice,
+                              @Param("subtotal") BigDecimal subtotal,
+                              @Param("notes") String notes,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * 정해진 ID로 장바구니 아이템 생성 (인메모리 장바구니 기록용, 메모리의 ID를 그대로 유지)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cart_items (cart_item_id, cart_id, menu_id, quantity, unit_price, subtotal, notes, created_at, updated_at) " +
+                   "VALUES (:id, :cartId, :menuId, :quantity, :unitPrice, :subtotal, :notes, :now, :now)",
+           nativeQuery = true)
+    int insertWithId(@Param("id") Long id,
+                     @Param("cartId") Long cartId,
+                     @Param("menuId") Long menuId,
+                     @Param("quantity") int quantity,
+                     @Param("unitPrice") BigDecimal unitPrice,
+                     @Param("subtotal") BigDecimal subtotal,
+                     @Param("notes") String notes,
+                     @Param("now") LocalDateTime now);
+}
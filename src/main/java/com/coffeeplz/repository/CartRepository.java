@@ -3,12 +3,15 @@ package com.coffeeplz.repository;
 import com.coffeeplz.entity.Cart;
 import com.coffeeplz.entity.CafeTable;
 import com.coffeeplz.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -74,9 +77,60 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByTableQrCodeWithItems(@Param("qrCode") String qrCode);
 
     /**
-     * 빈 장바구니들 삭제 (정리용)
+     * 기준 시각 이후 장바구니와 아이템 모두 변경이 없는 장바구니 ID (오래된 순, 만료 정리용)
+     *
+     * cart.updated_at 인덱스로 후보를 좁히고, 아이템은 (cart_id, updated_at) 인덱스로 확인한다.
+     */
+    @Query("SELECT c.id FROM Cart c WHERE c.updatedAt < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM CartItem ci WHERE ci.cart = c AND ci.updatedAt >= :cutoff) " +
+           "ORDER BY c.updatedAt")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 장바구니 ID 목록 중 아직 만료 상태인 장바구니 삭제 (아이템을 먼저 지운 뒤 호출)
+     *
+     * 후보를 고른 뒤 아이템을 담았으면 만료 조건에서 빠지므로 지우지 않는다.
+     */
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.id IN :ids AND c.updatedAt < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM CartItem ci WHERE ci.cart = c AND ci.updatedAt >= :cutoff)")
+    int deleteExpiredByIdIn(@Param("ids") List<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 테이블 장바구니의 마지막 변경 시각 갱신
+     */
+    @Modifying
+    @Query("UPDATE Cart c SET c.updatedAt = :now WHERE c.table.id = :tableId")
+    int touchByTableId(@Param("tableId") Long tableId, @Param("now") LocalDateTime now);
+
+    /**
+     * 테이블 ID로 장바구니를 아이템/메뉴와 함께 조회
+     */
+    @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.menu WHERE c.table.id = :tableId")
+    Optional<Cart> findByTableIdWithItems(@Param("tableId") Long tableId);
+
+    /**
+     * 모든 테이블 장바구니를 아이템/메뉴와 함께 조회 (인메모리 장바구니 복구용)
+     */
+    @Query("SELECT DISTINCT c FROM Cart c LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.menu")
+    List<Cart> findAllWithItems();
+
+    /**
+     * 테이블 장바구니가 없을 때만 생성 (동시에 생성해도 table_id 유니크 제약으로 하나만 남음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cart (table_id, created_at, updated_at) VALUES (:tableId, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE table_id = table_id", nativeQuery = true)
+    int insertIfAbsent(@Param("tableId") Long tableId, @Param("now") LocalDateTime now);
+
+    /**
+     * 정해진 ID로 장바구니 생성 (인메모리 장바구니 기록용, 메모리의 ID를 그대로 유지)
      */
     @Modifying
-    @Query("DELETE FROM Cart c WHERE c.id NOT IN (SELECT DISTINCT ci.cart.id FROM CartItem ci)")
-    void deleteEmptyCarts();
-} 
\ No newline at end of file
+    @Query(value = "INSERT INTO cart (cart_id, table_id, created_at, updated_at) " +
+                   "VALUES (:id, :tableId, :createdAt, :updatedAt)", nativeQuery = true)
+    int insertWithId(@Param("id") Long id,
+                     @Param("tableId") Long tableId,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+}
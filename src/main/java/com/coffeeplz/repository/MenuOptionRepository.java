@@ -16,6 +16,12 @@ public interface MenuOptionRepository extends JpaRepository<MenuOption, Long> {
      */
     List<MenuOption> findByMenuIdAndIsAvailableTrue(Long menuId);
 
+    /**
+     * 판매 가능한 메뉴의 사용 가능한 옵션 전체 조회 (카탈로그 스냅샷용)
+     */
+    @Query("SELECT mo FROM MenuOption mo WHERE mo.isAvailable = true AND mo.menu.isAvailable = true ORDER BY mo.id")
+    List<MenuOption> findAvailableOptionsOfAvailableMenus();
+
     /**
      * 특정 메뉴의 모든 옵션들 조회 (관리자용)
      */
@@ -4,11 +4,13 @@ import com.coffeeplz.entity.Menu;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -18,6 +20,12 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
      * 판매 가능한 메뉴만 조회
      */
     List<Menu> findByIsAvailableTrue();
+
+    /**
+     * 판매 가능한 메뉴를 카테고리와 함께 조회 (카탈로그 스냅샷용)
+     */
+    @Query("SELECT m FROM Menu m LEFT JOIN FETCH m.category WHERE m.isAvailable = true ORDER BY m.id")
+    List<Menu> findAvailableWithCategory();
     
     /**
      * 카테고리별 메뉴 조회 (엔티티 기반)
@@ -29,12 +37,6 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
      */
     List<Menu> findByPriceBetweenAndIsAvailableTrue(BigDecimal minPrice, BigDecimal maxPrice);
     
-    /**
-     * 메뉴명으로 검색 (부분 일치)
-     */
-    @Query("SELECT m FROM Menu m WHERE m.name LIKE %:name% AND m.isAvailable = true")
-    List<Menu> findByNameContainingAndIsAvailableTrue(@Param("name") String name);
-    
     /**
      * 카테고리별 페이징 조회 (엔티티 기반)
      */
@@ -52,11 +54,31 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     int countByCategoryIdAndIsAvailableTrue(Long categoryId);
 
     /**
-     * 인기 메뉴 조회 (주문 수 기준)
+     * 재고 관리 메뉴의 현재 재고 조회 ([메뉴 ID, 재고])
+     */
+    @Query("SELECT m.id, m.stockQuantity FROM Menu m WHERE m.isStockManaged = true")
+    List<Object[]> findManagedStock();
+
+    /**
+     * 재고 수량 기록
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.stockQuantity = :stockQuantity WHERE m.id = :id AND m.isStockManaged = true")
+    int updateStockQuantity(@Param("id") Long id, @Param("stockQuantity") int stockQuantity);
+
+    /**
+     * 재고 소진으로 판매 중지 (판매 중인 메뉴만, 관리자가 이미 중지한 메뉴는 그대로)
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.isAvailable = false, m.isSoldOut = true, m.updatedAt = :updatedAt " +
+           "WHERE m.id = :id AND m.isAvailable = true")
+    int markSoldOut(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 재고 소진으로 중지했던 메뉴만 판매 재개
      */
-    @Query("SELECT m, COUNT(oi) as orderCount FROM Menu m " +
-           "JOIN m.orderItems oi JOIN oi.order o " +
-           "WHERE o.createdAt >= :startDate AND m.isAvailable = true " +
-           "GROUP BY m.id ORDER BY orderCount DESC")
-    List<Object[]> findPopularMenus(@Param("startDate") java.time.LocalDateTime startDate, Pageable pageable);
-} 
\ No newline at end of file
+    @Modifying
+    @Query("UPDATE Menu m SET m.isAvailable = true, m.isSoldOut = false, m.updatedAt = :updatedAt " +
+           "WHERE m.id = :id AND m.isSoldOut = true")
+    int clearSoldOut(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,74 @@
+package com.coffeeplz.repository;
+
+import com.coffeeplz.entity.OrderArchive;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long>, JpaSpecificationExecutor<OrderArchive> {
+
+    /**
+     * 보관 주문 상세 조회 (테이블, 주문 아이템, 메뉴, 카테고리를 한 번에 조회)
+     */
+    @EntityGraph(attributePaths = {"table", "orderItems", "orderItems.menu", "orderItems.menu.category"})
+    @Query("SELECT o FROM OrderArchive o WHERE o.id = :orderId")
+    Optional<OrderArchive> findWithDetailsById(@Param("orderId") Long orderId);
+
+    /**
+     * 여러 보관 주문 상세 조회 (순서는 보장하지 않음)
+     */
+    @EntityGraph(attributePaths = {"table", "orderItems", "orderItems.menu", "orderItems.menu.category"})
+    @Query("SELECT o FROM OrderArchive o WHERE o.id IN :orderIds")
+    List<OrderArchive> findWithDetailsByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 상태별 보관 주문 수
+     */
+    @Query("SELECT o.status, COUNT(o) FROM OrderArchive o GROUP BY o.status")
+    List<Object[]> countGroupByStatus();
+
+    // ===== 보관 (운영 테이블 행을 그대로 복사, 삭제는 각 운영 테이블 저장소에서) =====
+
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive (order_id, user_id, table_id, total_amount, used_points, payment_amount, " +
+                   "status, order_notes, created_at, updated_at, archived_at) " +
+                   "SELECT order_id, user_id, table_id, total_amount, used_points, payment_amount, " +
+                   "status, order_notes, created_at, updated_at, :now FROM orders WHERE order_id IN :orderIds",
+           nativeQuery = true)
+    int copyOrders(@Param("orderIds") Collection<Long> orderIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_items_archive (order_item_id, order_id, menu_id, quantity, unit_price, subtotal, " +
+                   "notes, created_at, updated_at) " +
+                   "SELECT order_item_id, order_id, menu_id, quantity, unit_price, subtotal, notes, created_at, updated_at " +
+                   "FROM order_items WHERE order_id IN :orderIds",
+           nativeQuery = true)
+    int copyOrderItems(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_item_options_archive (order_item_option_id, order_item_id, menu_option_id, quantity, " +
+                   "created_at, updated_at) " +
+                   "SELECT oio.order_item_option_id, oio.order_item_id, oio.menu_option_id, oio.quantity, " +
+                   "oio.created_at, oio.updated_at FROM order_item_options oio " +
+                   "JOIN order_items oi ON oi.order_item_id = oio.order_item_id WHERE oi.order_id IN :orderIds",
+           nativeQuery = true)
+    int copyOrderItemOptions(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO payments_archive (payment_id, order_id, payment_method, amount, status, transaction_id, " +
+                   "payment_time, failure_reason, created_at, updated_at) " +
+                   "SELECT payment_id, order_id, payment_method, amount, status, transaction_id, " +
+                   "payment_time, failure_reason, created_at, updated_at FROM payments WHERE order_id IN :orderIds",
+           nativeQuery = true)
+    int copyPayments(@Param("orderIds") Collection<Long> orderIds);
+}
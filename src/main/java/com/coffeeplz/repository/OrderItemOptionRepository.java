@@ -2,10 +2,12 @@ package com.coffeeplz.repository;
 
 import com.coffeeplz.entity.OrderItemOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -34,6 +36,8 @@ public interface OrderItemOptionRepository extends JpaRepository<OrderItemOption
 
     /**
      * 인기 옵션 통계 (특정 기간)
+     *
+     * 운영 테이블만 조회하므로 보관된 주문(coffeeplz.archive.retention-days 이전 완료/취소)은 빠진다.
      */
     @Query("SELECT oio.menuOption.id, oio.menuOption.name, COUNT(oio), SUM(oio.quantity) " +
            "FROM OrderItemOption oio JOIN oio.orderItem oi JOIN oi.order o " +
@@ -42,4 +46,12 @@ public interface OrderItemOptionRepository extends JpaRepository<OrderItemOption
            "ORDER BY COUNT(oio) DESC")
     List<Object[]> getPopularOptionsStats(@Param("startDate") java.time.LocalDateTime startDate, 
                                          @Param("endDate") java.time.LocalDateTime endDate);
-} 
\ No newline at end of file
+
+    /**
+     * 주문 보관 후 운영 테이블의 주문 아이템 옵션 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OrderItemOption oio WHERE oio.orderItem.id IN " +
+           "(SELECT oi.id FROM OrderItem oi WHERE oi.order.id IN :orderIds)")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -4,10 +4,13 @@ import com.coffeeplz.entity.Order;
 import com.coffeeplz.entity.OrderItem;
 import com.coffeeplz.entity.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -32,9 +35,25 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
            "ORDER BY totalQuantity DESC")
     List<Object[]> findPopularMenus();
     
+    /**
+     * 기간 내 메뉴별/일자별 주문 아이템 수 조회 ([메뉴 ID, 주문일, 주문 수])
+     */
+    @Query("SELECT oi.menu.id, CAST(o.createdAt AS LocalDate), COUNT(oi) " +
+           "FROM OrderItem oi JOIN oi.order o " +
+           "WHERE o.createdAt >= :startDate " +
+           "GROUP BY oi.menu.id, CAST(o.createdAt AS LocalDate)")
+    List<Object[]> countOrderItemsByMenuAndDaySince(@Param("startDate") LocalDateTime startDate);
+
     /**
      * 특정 메뉴의 총 주문 수량 조회
      */
     @Query("SELECT SUM(oi.quantity) FROM OrderItem oi WHERE oi.menu = :menu")
     Long getTotalQuantityByMenu(@Param("menu") Menu menu);
-} 
\ No newline at end of file
+
+    /**
+     * 주문 보관 후 운영 테이블의 주문 아이템 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OrderItem oi WHERE oi.order.id IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
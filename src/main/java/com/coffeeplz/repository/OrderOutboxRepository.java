@@ -0,0 +1,37 @@
+package com.coffeeplz.repository;
+
+import com.coffeeplz.entity.OrderOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    /**
+     * 발행 대기 이벤트 (기록 순)
+     */
+    @Query("SELECT e FROM OrderOutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id")
+    List<OrderOutboxEvent> findUnpublished(Pageable pageable);
+
+    /**
+     * 발행 완료 표시
+     */
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 발행 후 보관 기간이 지난 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
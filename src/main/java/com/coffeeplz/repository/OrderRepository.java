@@ -6,16 +6,21 @@ import com.coffeeplz.entity.CafeTable;
 import com.coffeeplz.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
     
     /**
      * 회원 사용자의 주문 내역 조회 (최신순) - 회원 전용 기능
@@ -34,6 +39,8 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     
     /**
      * 특정 기간의 주문 조회
+     *
+     * 운영 테이블만 조회하므로 보관된 주문(coffeeplz.archive.retention-days 이전 완료/취소)은 빠진다.
      */
     @Query("SELECT o FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate ORDER BY o.createdAt DESC")
     List<Order> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate, 
@@ -65,8 +72,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByTableAndStatus(CafeTable table, OrderStatus status);
     
     /**
-     * 현재 사용 중인 테이블의 진행 중인 주문 조회
+     * 현재 사용 중인 테이블의 진행 중인 주문 조회 (응답 조립에 필요한 연관을 함께 조회)
      */
+    @EntityGraph(attributePaths = {"table", "payment", "orderItems", "orderItems.menu", "orderItems.menu.category"})
     @Query("SELECT o FROM Order o WHERE o.table = :table AND o.status IN ('PENDING', 'PREPARING', 'READY')")
     List<Order> findActiveOrdersByTable(@Param("table") CafeTable table);
     
@@ -75,7 +83,47 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     @Query("SELECT o FROM Order o WHERE o.table.qrCode = :qrCode AND o.status IN ('PENDING', 'PREPARING', 'READY')")
     List<Order> findActiveOrdersByQrCode(@Param("qrCode") String qrCode);
-    
+
+    /**
+     * 진행 중인 주문 전체를 테이블/메뉴와 함께 생성 순으로 조회 (주방 보드 복구용)
+     */
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.table LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.menu " +
+           "WHERE o.status IN ('PENDING', 'PREPARING', 'READY') ORDER BY o.createdAt, o.id")
+    List<Order> findActiveOrdersWithItems();
+
+    /**
+     * 주문 상세 조회 (테이블, 결제, 주문 아이템, 메뉴, 카테고리를 한 번에 조회)
+     */
+    @EntityGraph(attributePaths = {"table", "payment", "orderItems", "orderItems.menu", "orderItems.menu.category"})
+    @Query("SELECT o FROM Order o WHERE o.id = :orderId")
+    Optional<Order> findWithDetailsById(@Param("orderId") Long orderId);
+
+    /**
+     * 여러 주문 상세 조회 (페이지로 고른 주문의 응답 조립용, 순서는 보장하지 않음)
+     */
+    @EntityGraph(attributePaths = {"table", "payment", "orderItems", "orderItems.menu", "orderItems.menu.category"})
+    @Query("SELECT o FROM Order o WHERE o.id IN :orderIds")
+    List<Order> findWithDetailsByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 상태별 주문 수
+     */
+    @Query("SELECT o.status, COUNT(o) FROM Order o GROUP BY o.status")
+    List<Object[]> countGroupByStatus();
+
+    /**
+     * 기간 내 생성된 주문 수
+     */
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.createdAt >= :start AND o.createdAt < :end")
+    long countCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 기간 내 생성되어 완료된 주문 수와 매출 합계 (한 행)
+     */
+    @Query("SELECT COUNT(o), SUM(o.totalAmount) FROM Order o " +
+           "WHERE o.status = 'COMPLETED' AND o.createdAt >= :start AND o.createdAt < :end")
+    List<Object[]> sumCompletedCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     /**
      * 테이블별 오늘 주문 수 조회
      */
@@ -112,10 +160,26 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
      * 특정 기간 매출 통계 (일별)
+     *
+     * 운영 테이블만 조회하므로 보관된 주문(coffeeplz.archive.retention-days 이전 완료/취소)은 빠진다.
      */
     @Query("SELECT CAST(o.createdAt AS date), COUNT(o), SUM(o.totalAmount) FROM Order o " +
            "WHERE o.status = 'COMPLETED' AND o.createdAt BETWEEN :startDate AND :endDate " +
            "GROUP BY CAST(o.createdAt AS date) ORDER BY CAST(o.createdAt AS date)")
     List<Object[]> getSalesStatsByPeriod(@Param("startDate") LocalDateTime startDate, 
                                         @Param("endDate") LocalDateTime endDate);
-} 
\ No newline at end of file
+
+    /**
+     * 보관 대상 주문 ID (cutoff 이전에 생성되고 마지막 변경도 cutoff 이전인 완료/취소 주문, 오래된 순)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status IN ('COMPLETED', 'CANCELLED') " +
+           "AND o.createdAt < :cutoff AND o.updatedAt < :cutoff ORDER BY o.createdAt, o.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 주문 보관 후 운영 테이블에서 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id IN :orderIds")
+    int deleteByIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,61 @@
+package com.coffeeplz.repository;
+
+import com.coffeeplz.entity.OrderStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 주문 검색 조건 (null 조건은 생략, Order와 OrderArchive 모두에 쓴다)
+ *
+ * 목록은 (createdAt, id) 내림차순 키셋으로 넘기므로 OFFSET/COUNT 없이
+ * idx_orders_status_created_at, idx_orders_table_created_at, idx_orders_created_at 범위 스캔으로 끝난다.
+ */
+public final class OrderSpecifications {
+
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private OrderSpecifications() {
+    }
+
+    public static <T> Specification<T> hasStatus(OrderStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static <T> Specification<T> ofTable(Long tableId) {
+        return (root, query, cb) -> tableId == null ? null : cb.equal(root.get("table").get("id"), tableId);
+    }
+
+    /**
+     * startDate 이상 endDate 미만
+     */
+    public static <T> Specification<T> createdBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return (root, query, cb) -> {
+            if (startDate == null && endDate == null) {
+                return null;
+            }
+            if (startDate == null) {
+                return cb.lessThan(root.get("createdAt"), endDate);
+            }
+            if (endDate == null) {
+                return cb.greaterThanOrEqualTo(root.get("createdAt"), startDate);
+            }
+            return cb.and(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate),
+                    cb.lessThan(root.get("createdAt"), endDate));
+        };
+    }
+
+    /**
+     * 커서(마지막으로 받은 주문)보다 오래된 주문 (NEWEST_FIRST 순서 기준)
+     */
+    public static <T> Specification<T> olderThan(LocalDateTime createdAt, Long orderId) {
+        return (root, query, cb) -> {
+            if (createdAt == null) {
+                return null;
+            }
+            return cb.or(cb.lessThan(root.get("createdAt"), createdAt),
+                    cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), orderId)));
+        };
+    }
+}
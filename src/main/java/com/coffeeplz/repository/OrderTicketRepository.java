@@ -0,0 +1,21 @@
+package com.coffeeplz.repository;
+
+import com.coffeeplz.entity.OrderTicket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OrderTicketRepository extends JpaRepository<OrderTicket, String> {
+
+    /**
+     * 처리 후 보관 기간이 지난 접수 결과 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OrderTicket t WHERE t.completedAt < :cutoff")
+    int deleteCompletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
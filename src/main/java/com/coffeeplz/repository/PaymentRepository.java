@@ -5,12 +5,14 @@ import com.coffeeplz.entity.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,8 +62,17 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     /**
      * 결제 방법별 통계
+     *
+     * 운영 테이블만 조회하므로 보관된 주문의 결제(coffeeplz.archive.retention-days 이전)는 빠진다.
      */
     @Query("SELECT p.paymentMethod, COUNT(p), SUM(p.amount) FROM Payment p WHERE p.status = 'COMPLETED' AND p.paymentTime BETWEEN :startDate AND :endDate GROUP BY p.paymentMethod")
     List<Object[]> getPaymentStatsByMethod(@Param("startDate") LocalDateTime startDate, 
                                           @Param("endDate") LocalDateTime endDate);
-} 
\ No newline at end of file
+
+    /**
+     * 주문 보관 후 운영 테이블의 결제 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Payment p WHERE p.order.id IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -75,6 +76,10 @@ public interface TableRepository extends JpaRepository<CafeTable, Long> {
     // 사용 가능한 테이블만 조회
     List<CafeTable> findByStatusAndIsActiveTrueOrderByTableNumberAsc(TableStatus status);
 
+    // 활성 테이블의 최종 수정 시각 조회 (ETag 검사용)
+    @Query("SELECT t.updatedAt FROM CafeTable t WHERE t.id = :id AND t.isActive = true")
+    Optional<LocalDateTime> findUpdatedAtByIdAndIsActiveTrue(@Param("id") Long id);
+
     // 테이블 상태별 통계
     @Query("SELECT t.status, COUNT(t) FROM CafeTable t WHERE t.isActive = true GROUP BY t.status")
     List<Object[]> getTableStatusStats();
@@ -0,0 +1,57 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.CartEventResponse;
+import com.coffeeplz.dto.CartResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 테이블 장바구니 변경 알림 (같은 테이블의 여러 기기 동기화)
+ *
+ * 구독하면 현재 장바구니를 snapshot 이벤트로 먼저 보내고, 이후 변경은 커밋된 뒤 delta 이벤트로 보낸다.
+ */
+@Component
+public class CartEvents {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String DELTA_EVENT = "delta";
+
+    private final SseHub<Long> hub;
+
+    public CartEvents(MeterRegistry meterRegistry,
+                      @Value("${coffeeplz.cart.sse.buffer-size:32}") int bufferSize,
+                      @Value("${coffeeplz.cart.sse.timeout-minutes:30}") long timeoutMinutes,
+                      @Value("${coffeeplz.cart.sse.send-threads:2}") int sendThreads,
+                      @Value("${coffeeplz.cart.sse.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.hub = new SseHub<>("cart", bufferSize, Duration.ofMinutes(timeoutMinutes), sendThreads,
+                Duration.ofMillis(sendTimeoutMillis), meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long tableId, Supplier<CartResponse> snapshot) {
+        return hub.subscribe(tableId, SNAPSHOT_EVENT, snapshot);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 변경 이벤트 발행
+     */
+    public void publishAfterCommit(CartEventResponse event) {
+        TransactionHooks.afterCommit(() -> hub.publish(event.getTableId(), DELTA_EVENT, event));
+    }
+
+    @Scheduled(fixedDelayString = "${coffeeplz.cart.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        hub.heartbeat();
+    }
+
+    @PreDestroy
+    public void close() {
+        hub.close();
+    }
+}
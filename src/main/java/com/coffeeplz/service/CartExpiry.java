@@ -0,0 +1,143 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.CartCleanupResponse;
+import com.coffeeplz.repository.CartItemRepository;
+import com.coffeeplz.repository.CartRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방치된 장바구니 만료 삭제
+ *
+ * 장바구니와 아이템 모두 TTL 동안 변경이 없으면 만료로 본다.
+ * updated_at 인덱스로 오래된 순서대로 몇 개씩만 골라 짧은 트랜잭션으로 지우고, 청크 사이에는 잠시 쉬어
+ * 장바구니 추가/주문 트랜잭션이 잠금을 오래 기다리지 않게 한다.
+ */
+@Component
+@Slf4j
+public class CartExpiry {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final TransactionTemplate chunkTransaction;
+    private final Duration ttl;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final int maxChunksPerRun;
+    private final Counter purgedCounter;
+    private final Timer runTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CartExpiry(CartRepository cartRepository,
+                      CartItemRepository cartItemRepository,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${coffeeplz.cart.ttl-minutes:180}") long ttlMinutes,
+                      @Value("${coffeeplz.cart.expiry.chunk-size:100}") int chunkSize,
+                      @Value("${coffeeplz.cart.expiry.pause-ms:200}") long pauseMillis,
+                      @Value("${coffeeplz.cart.expiry.max-chunks-per-run:50}") int maxChunksPerRun) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxChunksPerRun = maxChunksPerRun;
+
+        // 호출한 쪽 트랜잭션과 상관없이 청크마다 바로 커밋해 잠금을 놓는다
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.purgedCounter = Counter.builder("coffeeplz.cart.expired")
+                .description("만료로 삭제한 장바구니 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("coffeeplz.cart.expiry.duration")
+                .description("만료 장바구니 정리 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coffeeplz.cart.expiry.interval-ms:300000}",
+            initialDelayString = "${coffeeplz.cart.expiry.interval-ms:300000}")
+    public void scheduledPurge() {
+        purge();
+    }
+
+    /**
+     * 만료된 장바구니 삭제 (한 번에 최대 max-chunks-per-run 청크, 나머지는 다음 실행에서)
+     */
+    public CartCleanupResponse purge() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("만료 장바구니 정리가 이미 진행 중입니다");
+            return CartCleanupResponse.builder().build();
+        }
+
+        long started = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        int purged = 0;
+        int chunks = 0;
+        try {
+            while (chunks < maxChunksPerRun) {
+                Integer deleted = chunkTransaction.execute(status -> purgeChunk(cutoff));
+                if (deleted == null || deleted == 0) {
+                    break;
+                }
+                purged += deleted;
+                chunks++;
+                if (deleted < chunkSize || !pause()) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        purgedCounter.increment(purged);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (purged > 0) {
+            log.info("만료 장바구니 정리 - 삭제: {}개, 청크: {}개, 소요: {}ms", purged, chunks, elapsedMillis);
+        }
+        return CartCleanupResponse.builder()
+                .purgedCarts(purged)
+                .chunks(chunks)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private int purgeChunk(LocalDateTime cutoff) {
+        List<Long> cartIds = cartRepository.findExpiredIds(cutoff, PageRequest.of(0, chunkSize));
+        if (cartIds.isEmpty()) {
+            return 0;
+        }
+        // 고른 뒤 담은 아이템이 있으면 지우지 않도록 삭제할 때 만료 조건을 다시 건다
+        cartItemRepository.deleteExpiredByCartIdIn(cartIds, cutoff);
+        return cartRepository.deleteExpiredByIdIn(cartIds, cutoff);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -6,10 +6,13 @@ import com.coffeeplz.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -17,62 +20,55 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CartService {
 
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
     private final TableRepository tableRepository;
     private final MenuRepository menuRepository;
+    private final StockReservations stockReservations;
+    private final MenuCatalog menuCatalog;
+    private final CartEvents cartEvents;
+    private final CartExpiry cartExpiry;
 
     /**
      * 장바구니 아이템 추가
+     *
+     * 메뉴 정보는 카탈로그 스냅샷에서 읽고, 같은 메뉴를 다시 담으면 수량이 합쳐진다.
      */
     @Transactional
     public CartResponse addItemToCart(Long tableId, CartItemRequest request) {
         log.info("장바구니 아이템 추가 - 테이블: {}, 메뉴: {}", tableId, request.getMenuId());
 
-        // 테이블 조회 및 유효성 검증
-        CafeTable table = tableRepository.findById(tableId)
-                .filter(CafeTable::getIsActive)
-                .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
-
-        if (table.getStatus() != TableStatus.OCCUPIED) {
-            throw new IllegalArgumentException("사용중이 아닌 테이블입니다");
+        if (request.getQuantity() <= 0) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다");
         }
 
-        // 메뉴 조회 및 유효성 검증
-        Menu menu = menuRepository.findById(request.getMenuId())
-                .orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다"));
+        CafeTable table = findOccupiedTable(tableId);
 
-        if (!menu.getIsAvailable()) {
+        // 메뉴 유효성 검증 (판매 가능한 메뉴만 스냅샷에 있음)
+        MenuResponse menu = menuCatalog.snapshot().getAvailableMenu(request.getMenuId());
+        if (menu == null) {
+            if (!menuRepository.existsById(request.getMenuId())) {
+                throw new IllegalArgumentException("메뉴를 찾을 수 없습니다");
+            }
             throw new IllegalArgumentException("현재 판매하지 않는 메뉴입니다");
         }
 
-        // 장바구니 조회 또는 생성
-        Cart cart = getOrCreateCart(table);
-
-        // 동일한 메뉴가 이미 장바구니에 있는지 확인
-        CartItem existingItem = cartItemRepository.findByCartAndMenu(cart, menu).orElse(null);
-        
-        if (existingItem != null) {
-            // 기존 아이템의 수량 업데이트
-            existingItem.updateQuantity(existingItem.getQuantity() + request.getQuantity());
-            cartItemRepository.save(existingItem);
-            log.info("기존 장바구니 아이템 수량 업데이트: {} -> {}", 
-                    existingItem.getQuantity() - request.getQuantity(), existingItem.getQuantity());
-        } else {
-            // 새로운 아이템 추가
-            CartItem cartItem = CartItem.builder()
-                    .cart(cart)
-                    .menu(menu)
-                    .quantity(request.getQuantity())
-                    .unitPrice(menu.getPrice())
-                    .notes(request.getSpecialInstructions())
-                    .build();
-            
-            cartItemRepository.save(cartItem);
-            log.info("새로운 장바구니 아이템 추가: {} x{}", menu.getName(), request.getQuantity());
+        // 한정 메뉴는 담을 때 남은 수량을 확인 (실제 예약은 주문 시)
+        if (!stockReservations.isAvailable(menu.getId(), request.getQuantity())) {
+            throw new IllegalArgumentException("재고가 부족합니다");
         }
 
-        return getCartResponse(tableId);
+        TableCart cart = cartStore.addItem(tableId, menu, request.getQuantity(), request.getSpecialInstructions());
+        log.info("장바구니 아이템 추가 완료: {} +{}", menu.getName(), request.getQuantity());
+
+        // 담은 수량 그대로면 새 아이템, 아니면 기존 아이템에 합쳐진 것
+        cart.getItems().stream()
+                .filter(item -> item.getMenuId().equals(menu.getId()))
+                .findFirst()
+                .ifPresent(item -> publishItemEvent(cart, item, item.getQuantity() == request.getQuantity()
+                        ? CartEventResponse.Type.ITEM_ADDED
+                        : CartEventResponse.Type.QUANTITY_CHANGED));
+
+        return buildCartResponse(table, cart);
     }
 
     /**
@@ -86,7 +82,7 @@ public class CartService {
                 .filter(CafeTable::getIsActive)
                 .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
 
-        return getCartResponse(tableId);
+        return buildCartResponse(table, cartStore.find(tableId).orElse(null));
     }
 
     /**
@@ -100,24 +96,23 @@ public class CartService {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다");
         }
 
-        // 장바구니 아이템 조회 및 테이블 검증
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다"));
-
-        if (!cartItem.getCart().getTable().getId().equals(tableId)) {
-            throw new IllegalArgumentException("해당 테이블의 장바구니 아이템이 아닙니다");
-        }
+        CafeTable table = tableRepository.findById(tableId)
+                .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
 
         // 메뉴 유효성 재검증
-        if (!cartItem.getMenu().getIsAvailable()) {
+        TableCart.Item item = findItem(tableId, cartItemId);
+        if (menuCatalog.snapshot().getAvailableMenu(item.getMenuId()) == null) {
             throw new IllegalArgumentException("현재 판매하지 않는 메뉴입니다");
         }
 
-        cartItem.updateQuantity(quantity);
-        cartItemRepository.save(cartItem);
+        TableCart cart = cartStore.updateQuantity(tableId, cartItemId, quantity);
+        cart.getItems().stream()
+                .filter(updated -> updated.getId().equals(cartItemId))
+                .findFirst()
+                .ifPresent(updated -> publishItemEvent(cart, updated, CartEventResponse.Type.QUANTITY_CHANGED));
 
-        log.info("장바구니 아이템 수량 변경 완료: {} -> {}", cartItem.getMenu().getName(), quantity);
-        return getCartResponse(tableId);
+        log.info("장바구니 아이템 수량 변경 완료: {} -> {}", item.getMenuName(), quantity);
+        return buildCartResponse(table, cart);
     }
 
     /**
@@ -127,19 +122,20 @@ public class CartService {
     public CartResponse removeCartItem(Long tableId, Long cartItemId) {
         log.info("장바구니 아이템 삭제 - 테이블: {}, 아이템: {}", tableId, cartItemId);
 
-        // 장바구니 아이템 조회 및 테이블 검증
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다"));
-
-        if (!cartItem.getCart().getTable().getId().equals(tableId)) {
-            throw new IllegalArgumentException("해당 테이블의 장바구니 아이템이 아닙니다");
-        }
+        CafeTable table = tableRepository.findById(tableId)
+                .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
 
-        String menuName = cartItem.getMenu().getName();
-        cartItemRepository.delete(cartItem);
+        TableCart cart = cartStore.removeItem(tableId, cartItemId);
+        cartEvents.publishAfterCommit(CartEventResponse.builder()
+                .type(CartEventResponse.Type.ITEM_REMOVED)
+                .tableId(tableId)
+                .removedItemId(cartItemId)
+                .totalAmount(cart.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
 
-        log.info("장바구니 아이템 삭제 완료: {}", menuName);
-        return getCartResponse(tableId);
+        log.info("장바구니 아이템 삭제 완료 - 아이템: {}", cartItemId);
+        return buildCartResponse(table, cart);
     }
 
     /**
@@ -149,91 +145,166 @@ public class CartService {
     public void clearCart(Long tableId) {
         log.info("장바구니 전체 삭제 - 테이블: {}", tableId);
 
+        tableRepository.findById(tableId)
+                .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
+
+        cartStore.clear(tableId);
+        cartEvents.publishAfterCommit(CartEventResponse.builder()
+                .type(CartEventResponse.Type.CLEARED)
+                .tableId(tableId)
+                .totalAmount(Money.ZERO)
+                .occurredAt(LocalDateTime.now())
+                .build());
+        log.info("장바구니 전체 삭제 완료 - 테이블: {}", tableId);
+    }
+
+    /**
+     * 테이블 장바구니 변경 구독 (SSE)
+     *
+     * 첫 이벤트로 현재 장바구니 전체를, 이후에는 변경분만 보낸다.
+     */
+    public SseEmitter subscribeCart(Long tableId) {
+        log.info("장바구니 구독 - 테이블: {}", tableId);
+
         CafeTable table = tableRepository.findById(tableId)
+                .filter(CafeTable::getIsActive)
                 .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
 
-        Cart cart = cartRepository.findByTable(table).orElse(null);
-        
-        if (cart != null) {
-            cartRepository.delete(cart);
-            log.info("장바구니 전체 삭제 완료 - 테이블: {}", tableId);
-        }
+        return cartEvents.subscribe(tableId, () -> buildCartResponse(table, cartStore.find(tableId).orElse(null)));
     }
 
     /**
-     * 빈 장바구니 정리 (스케줄러용)
+     * 비어 있거나 만료된 장바구니 즉시 정리 (평소에는 CartExpiry가 주기적으로 수행)
+     *
+     * DB 삭제는 청크마다 별도 트랜잭션으로 커밋되므로 여기서는 트랜잭션을 열지 않는다.
      */
-    @Transactional
-    public void cleanupEmptyCarts() {
-        log.info("빈 장바구니 정리 시작");
-        cartRepository.deleteEmptyCarts();
-        log.info("빈 장바구니 정리 완료");
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CartCleanupResponse cleanupEmptyCarts() {
+        log.info("장바구니 정리 시작");
+        int evicted = cartStore.cleanup();
+        CartCleanupResponse purged = cartExpiry.purge();
+        log.info("장바구니 정리 완료 - 메모리: {}개, DB: {}개", evicted, purged.getPurgedCarts());
+
+        return CartCleanupResponse.builder()
+                .evictedCarts(evicted)
+                .purgedCarts(purged.getPurgedCarts())
+                .chunks(purged.getChunks())
+                .elapsedMillis(purged.getElapsedMillis())
+                .build();
     }
 
     /**
      * 테이블별 장바구니 존재 여부 확인
      */
     public boolean hasActiveCart(Long tableId) {
-        CafeTable table = tableRepository.findById(tableId).orElse(null);
-        if (table == null) {
-            return false;
-        }
-        
-        Cart cart = cartRepository.findByTable(table).orElse(null);
-        return cart != null && !cart.isEmpty();
+        return cartStore.find(tableId)
+                .map(cart -> !cart.isEmpty())
+                .orElse(false);
     }
 
     /**
      * 장바구니 총 금액 계산
      */
-    public BigDecimal calculateCartTotal(Long tableId) {
-        CafeTable table = tableRepository.findById(tableId).orElse(null);
-        if (table == null) {
-            return BigDecimal.ZERO;
-        }
-        
-        Cart cart = cartRepository.findByTable(table).orElse(null);
-        return cart != null ? cart.getTotalAmount() : BigDecimal.ZERO;
+    public Money calculateCartTotal(Long tableId) {
+        return cartStore.find(tableId)
+                .map(TableCart::getTotalAmount)
+                .orElse(Money.ZERO);
     }
 
     /**
-     * 장바구니 조회 또는 생성
+     * 주문할 장바구니 조회 (주문 생성용)
      */
-    private Cart getOrCreateCart(CafeTable table) {
-        Cart cart = cartRepository.findByTable(table).orElse(null);
-        
-        if (cart == null) {
-            // 새로운 장바구니 생성
-            cart = Cart.builder()
-                    .table(table)
-                    .build();
-            
-            cart = cartRepository.save(cart);
-            log.info("새로운 장바구니 생성 - 테이블: {}", table.getTableNumber());
+    public TableCart getCartForOrder(Long tableId) {
+        TableCart cart = cartStore.find(tableId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니가 비어있습니다"));
+
+        if (cart.isEmpty()) {
+            throw new IllegalArgumentException("장바구니에 아이템이 없습니다");
         }
-        
         return cart;
     }
 
     /**
-     * 장바구니 응답 DTO 생성
+     * 주문할 장바구니를 accept에 넘기고, 예외 없이 끝나면 장바구니를 비움 (비동기 주문 접수용)
+     *
+     * DB가 느릴 때도 접수가 밀리지 않도록 트랜잭션을 열지 않고 테이블도 조회하지 않는다 (검증은 주문 처리 때).
      */
-    private CartResponse getCartResponse(Long tableId) {
-        CafeTable table = tableRepository.findById(tableId).orElse(null);
-        if (table == null) {
-            return createEmptyCartResponse(tableId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public <T> T takeCartForOrder(Long tableId, Function<TableCart, T> accept) {
+        TableCart cart = getCartForOrder(tableId);
+        T accepted = accept.apply(cart);
+
+        removeOrderedItems(cart);
+        return accepted;
+    }
+
+    /**
+     * 주문한 아이템만 장바구니에서 빼기 (주문할 장바구니를 읽은 뒤에 담은 아이템과 수량은 남김)
+     */
+    @Transactional
+    public void removeOrderedItems(TableCart ordered) {
+        Long tableId = ordered.getTableId();
+        TableCart remaining = cartStore.removeOrderedItems(ordered).orElse(null);
+        if (remaining == null) {
+            cartEvents.publishAfterCommit(CartEventResponse.builder()
+                    .type(CartEventResponse.Type.CLEARED)
+                    .tableId(tableId)
+                    .totalAmount(Money.ZERO)
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+            return;
         }
 
-        Cart cart = cartRepository.findByTableWithItems(table).orElse(null);
-        
-        if (cart == null || cart.isEmpty()) {
-            return createEmptyCartResponse(tableId);
+        log.info("주문 후 남은 장바구니 아이템 - 테이블: {}, 아이템: {}개", tableId, remaining.getItems().size());
+        for (TableCart.Item orderedItem : ordered.getItems()) {
+            remaining.getItems().stream()
+                    .filter(item -> item.getId().equals(orderedItem.getId()))
+                    .findFirst()
+                    .ifPresentOrElse(
+                            item -> publishItemEvent(remaining, item, CartEventResponse.Type.QUANTITY_CHANGED),
+                            () -> cartEvents.publishAfterCommit(CartEventResponse.builder()
+                                    .type(CartEventResponse.Type.ITEM_REMOVED)
+                                    .tableId(tableId)
+                                    .removedItemId(orderedItem.getId())
+                                    .totalAmount(remaining.getTotalAmount())
+                                    .occurredAt(LocalDateTime.now())
+                                    .build()));
         }
+    }
 
-        List<CartItemResponse> itemResponses = cart.getCartItems().stream()
-                .map(this::convertToCartItemResponse)
-                .toList();
+    private CafeTable findOccupiedTable(Long tableId) {
+        CafeTable table = tableRepository.findById(tableId)
+                .filter(CafeTable::getIsActive)
+                .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
+
+        if (table.getStatus() != TableStatus.OCCUPIED) {
+            throw new IllegalArgumentException("사용중이 아닌 테이블입니다");
+        }
+        return table;
+    }
+
+    private TableCart.Item findItem(Long tableId, Long cartItemId) {
+        return cartStore.find(tableId)
+                .flatMap(cart -> cart.getItems().stream()
+                        .filter(item -> item.getId().equals(cartItemId))
+                        .findFirst())
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다"));
+    }
+
+    private void publishItemEvent(TableCart cart, TableCart.Item item, CartEventResponse.Type type) {
+        cartEvents.publishAfterCommit(CartEventResponse.builder()
+                .type(type)
+                .tableId(cart.getTableId())
+                .item(convertToCartItemResponse(item, menuCatalog.snapshot()))
+                .totalAmount(cart.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
 
+    /**
+     * 장바구니 응답 DTO 생성
+     */
+    private CartResponse buildCartResponse(CafeTable table, TableCart cart) {
         TableResponse tableResponse = TableResponse.builder()
                 .id(table.getId())
                 .tableNumber(table.getTableNumber())
@@ -243,6 +314,19 @@ public class CartService {
                 .qrCode(table.getQrCode())
                 .build();
 
+        if (cart == null || cart.isEmpty()) {
+            return CartResponse.builder()
+                    .table(tableResponse)
+                    .cartItems(List.of())
+                    .totalAmount(Money.ZERO)
+                    .build();
+        }
+
+        MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
+        List<CartItemResponse> itemResponses = cart.getItems().stream()
+                .map(item -> convertToCartItemResponse(item, catalog))
+                .toList();
+
         return CartResponse.builder()
                 .id(cart.getId())
                 .table(tableResponse)
@@ -253,58 +337,26 @@ public class CartService {
     }
 
     /**
-     * 빈 장바구니 응답 생성
+     * 장바구니 아이템을 CartItemResponse로 변환 (담은 뒤 판매 중지된 메뉴는 이름만 표시)
      */
-    private CartResponse createEmptyCartResponse(Long tableId) {
-        CafeTable table = tableRepository.findById(tableId).orElse(null);
-        TableResponse tableResponse = null;
-        
-        if (table != null) {
-            tableResponse = TableResponse.builder()
-                    .id(table.getId())
-                    .tableNumber(table.getTableNumber())
-                    .seatCount(table.getSeatCount())
-                    .locationDescription(table.getLocationDescription())
-                    .status(table.getStatus().name())
-                    .qrCode(table.getQrCode())
+    private CartItemResponse convertToCartItemResponse(TableCart.Item item, MenuCatalog.Snapshot catalog) {
+        MenuResponse menuResponse = catalog.getAvailableMenu(item.getMenuId());
+        if (menuResponse == null) {
+            menuResponse = MenuResponse.builder()
+                    .id(item.getMenuId())
+                    .name(item.getMenuName())
+                    .price(item.getUnitPrice().toBigDecimal())
+                    .available(false)
                     .build();
         }
 
-        return CartResponse.builder()
-                .table(tableResponse)
-                .cartItems(List.of())
-                .totalAmount(BigDecimal.ZERO)
-                .build();
-    }
-
-    /**
-     * CartItem을 CartItemResponse로 변환
-     */
-    private CartItemResponse convertToCartItemResponse(CartItem cartItem) {
-        Menu menu = cartItem.getMenu();
-        
-        CategoryResponse categoryResponse = CategoryResponse.builder()
-                .id(menu.getCategory().getId())
-                .name(menu.getCategory().getName())
-                .description(menu.getCategory().getDescription())
-                .build();
-        
-        MenuResponse menuResponse = MenuResponse.builder()
-                .id(menu.getId())
-                .name(menu.getName())
-                .description(menu.getDescription())
-                .price(menu.getPrice())
-                .category(categoryResponse)
-                .available(menu.getIsAvailable())
-                .build();
-
         return CartItemResponse.builder()
-                .id(cartItem.getId())
+                .id(item.getId())
                 .menu(menuResponse)
-                .quantity(cartItem.getQuantity())
-                .unitPrice(cartItem.getUnitPrice())
-                .totalPrice(cartItem.getSubtotal())
-                .specialInstructions(cartItem.getNotes())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .totalPrice(item.getSubtotal())
+                .specialInstructions(item.getNotes())
                 .build();
     }
-} 
\ No newline at end of file
+}
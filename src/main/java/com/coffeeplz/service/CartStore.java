@@ -0,0 +1,56 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.MenuResponse;
+
+import java.util.Optional;
+
+/**
+ * 테이블 장바구니 저장소
+ *
+ * coffeeplz.cart.store 설정으로 구현을 고른다.
+ * memory(기본값)는 {@link InMemoryCartStore}, jpa는 {@link JpaCartStore}.
+ * 테이블/메뉴 유효성 검증은 {@link CartService}에서 끝난 상태로 호출된다.
+ */
+public interface CartStore {
+
+    /**
+     * 테이블 장바구니 조회
+     */
+    Optional<TableCart> find(Long tableId);
+
+    /**
+     * 메뉴 추가 (같은 메뉴가 있으면 수량만 증가, 장바구니가 없으면 생성)
+     */
+    TableCart addItem(Long tableId, MenuResponse menu, int quantity, String notes);
+
+    /**
+     * 아이템 수량 변경
+     */
+    TableCart updateQuantity(Long tableId, Long itemId, int quantity);
+
+    /**
+     * 아이템 삭제
+     */
+    TableCart removeItem(Long tableId, Long itemId);
+
+    /**
+     * 장바구니 삭제 (현재 트랜잭션과 함께 반영)
+     */
+    void clear(Long tableId);
+
+    /**
+     * 주문한 아이템만 장바구니에서 빼기 (현재 트랜잭션과 함께 반영)
+     *
+     * 주문할 장바구니를 읽은 뒤에 더 담은 아이템과 늘어난 수량은 남긴다.
+     *
+     * @return 남은 장바구니 (남은 아이템이 없으면 empty)
+     */
+    Optional<TableCart> removeOrderedItems(TableCart ordered);
+
+    /**
+     * 저장소가 직접 들고 있는 비어 있거나 만료된 장바구니 정리 (DB 장바구니 삭제는 {@link CartExpiry})
+     *
+     * @return 정리한 장바구니 수
+     */
+    int cleanup();
+}
@@ -0,0 +1,244 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.DailyOrderStatsResponse;
+import com.coffeeplz.dto.DailyPaymentStatsResponse;
+import com.coffeeplz.entity.Money;
+import com.coffeeplz.entity.Order;
+import com.coffeeplz.entity.OrderStatus;
+import com.coffeeplz.entity.Payment;
+import com.coffeeplz.repository.OrderRepository;
+import com.coffeeplz.repository.PaymentRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 오늘 주문/결제 집계 (대시보드용)
+ *
+ * 커밋된 주문 생성, 완료/취소, 결제, 환불을 LongAdder에 증감만 하므로 조회는 카운터 합산뿐이다.
+ * 하루의 기준은 coffeeplz.stats.zone(기본 Asia/Seoul, init.sql의 time_zone과 같음)의 자정이며,
+ * 자정에 새 버킷으로 바꾸고 기동 시(요청을 받기 전)에는 오늘 범위 집계 쿼리로 다시 채운다.
+ * 기존 통계와 같이 주문은 생성일, 결제는 결제 시각이 오늘인 것만 센다.
+ */
+@Component
+@Slf4j
+public class DailyStats {
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final ZoneId zone;
+
+    private volatile Day today;
+
+    public DailyStats(OrderRepository orderRepository,
+                      PaymentRepository paymentRepository,
+                      @Value("${coffeeplz.stats.zone:Asia/Seoul}") String zone) {
+        this.orderRepository = orderRepository;
+        this.paymentRepository = paymentRepository;
+        this.zone = ZoneId.of(zone);
+        this.today = new Day(LocalDate.now(this.zone));
+    }
+
+    /**
+     * 기동 시 오늘 주문/결제를 집계해 버킷 재구성
+     *
+     * 웹 서버와 주문 접수 스레드가 시작되기 전에 채워야, 그 사이 들어온 주문의 증가분을 덮어쓰지 않는다.
+     */
+    @PostConstruct
+    public void reseed() {
+        Day day = new Day(LocalDate.now(zone));
+        LocalDateTime start = toLocal(day.date);
+        LocalDateTime end = toLocal(day.date.plusDays(1));
+
+        day.orders.add(orderRepository.countCreatedBetween(start, end));
+        for (Object[] row : orderRepository.sumCompletedCreatedBetween(start, end)) {
+            day.completedOrders.add((Long) row[0]);
+            day.revenue.add(won(row[1]));
+        }
+        for (Object[] row : paymentRepository.getPaymentStatsByMethod(start, end.minusNanos(1))) {
+            PaymentCounter counter = day.paymentCounter((String) row[0]);
+            counter.count.add((Long) row[1]);
+            counter.amount.add(won(row[2]));
+        }
+
+        today = day;
+        log.info("오늘 통계 초기화 완료 - {}: 주문 {}건, 완료 {}건", day.date, day.orders.sum(), day.completedOrders.sum());
+    }
+
+    /**
+     * 자정에 새 버킷으로 교체 (조회/기록 시에도 날짜가 바뀌었으면 교체한다)
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "${coffeeplz.stats.zone:Asia/Seoul}")
+    public void rollOver() {
+        current();
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 새 주문 반영
+     */
+    void orderPlaced(Order order) {
+        LocalDate createdOn = dayOf(order.getCreatedAt());
+        TransactionHooks.afterCommit(() -> {
+            Day day = current();
+            if (day.date.equals(createdOn)) {
+                day.orders.increment();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 주문 상태 전이 반영 (오늘 생성된 주문의 완료 건수와 매출)
+     */
+    void orderTransitioned(Order order, OrderStatus from) {
+        OrderStatus to = order.getStatus();
+        if (from == to || (from != OrderStatus.COMPLETED && to != OrderStatus.COMPLETED)) {
+            return;
+        }
+        LocalDate createdOn = dayOf(order.getCreatedAt());
+        long amount = order.getTotalAmount().longValue();
+        long sign = to == OrderStatus.COMPLETED ? 1 : -1;
+
+        TransactionHooks.afterCommit(() -> {
+            Day day = current();
+            if (day.date.equals(createdOn)) {
+                day.completedOrders.add(sign);
+                day.revenue.add(sign * amount);
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 완료된 결제 반영
+     */
+    void paymentCompleted(Payment payment) {
+        recordPayment(payment, 1);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 환불된 결제 차감 (결제가 오늘 이뤄진 경우)
+     */
+    void paymentRefunded(Payment payment) {
+        recordPayment(payment, -1);
+    }
+
+    public DailyOrderStatsResponse orderStats() {
+        Day day = current();
+        return DailyOrderStatsResponse.builder()
+                .date(day.date)
+                .orderCount(day.orders.sum())
+                .completedCount(day.completedOrders.sum())
+                .revenue(Money.won(day.revenue.sum()))
+                .build();
+    }
+
+    public DailyPaymentStatsResponse paymentStats() {
+        Day day = current();
+        long count = 0;
+        long amount = 0;
+        Map<String, DailyPaymentStatsResponse.MethodStats> byMethod = new TreeMap<>();
+        for (Map.Entry<String, PaymentCounter> entry : day.payments.entrySet()) {
+            long methodCount = entry.getValue().count.sum();
+            long methodAmount = entry.getValue().amount.sum();
+            count += methodCount;
+            amount += methodAmount;
+            byMethod.put(entry.getKey(), new DailyPaymentStatsResponse.MethodStats(methodCount, Money.won(methodAmount)));
+        }
+
+        return DailyPaymentStatsResponse.builder()
+                .date(day.date)
+                .paymentCount(count)
+                .totalAmount(Money.won(amount))
+                .byMethod(byMethod)
+                .build();
+    }
+
+    private void recordPayment(Payment payment, long sign) {
+        String method = payment.getPaymentMethod();
+        LocalDate paidOn = dayOf(payment.getPaymentTime());
+        long amount = payment.getAmount().longValue();
+
+        TransactionHooks.afterCommit(() -> {
+            Day day = current();
+            if (day.date.equals(paidOn)) {
+                PaymentCounter counter = day.paymentCounter(method);
+                counter.count.add(sign);
+                counter.amount.add(sign * amount);
+            }
+        });
+    }
+
+    /**
+     * 오늘 버킷 (날짜가 바뀌었으면 한 스레드만 새 버킷으로 교체)
+     */
+    private Day current() {
+        LocalDate date = LocalDate.now(zone);
+        Day day = today;
+        if (day.date.equals(date)) {
+            return day;
+        }
+        synchronized (this) {
+            if (!today.date.equals(date)) {
+                log.info("오늘 통계 초기화 - {}", date);
+                today = new Day(date);
+            }
+            return today;
+        }
+    }
+
+    /**
+     * 엔티티 시각(JVM 기본 시간대)을 통계 시간대의 날짜로 변환
+     */
+    private LocalDate dayOf(LocalDateTime time) {
+        if (time == null) {
+            return LocalDate.now(zone);
+        }
+        return time.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDate();
+    }
+
+    /**
+     * 통계 시간대의 자정을 엔티티 시각(JVM 기본 시간대)으로 변환
+     */
+    private LocalDateTime toLocal(LocalDate date) {
+        return date.atStartOfDay(zone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    // 집계 결과에는 컨버터가 적용되지 않으므로 직접 변환
+    private static long won(Object sum) {
+        if (sum == null) {
+            return 0L;
+        }
+        return Money.of(sum instanceof BigDecimal decimal ? decimal : new BigDecimal(sum.toString())).longValue();
+    }
+
+    private static final class Day {
+        private final LocalDate date;
+        private final LongAdder orders = new LongAdder();
+        private final LongAdder completedOrders = new LongAdder();
+        private final LongAdder revenue = new LongAdder();
+        private final Map<String, PaymentCounter> payments = new ConcurrentHashMap<>();
+
+        private Day(LocalDate date) {
+            this.date = date;
+        }
+
+        private PaymentCounter paymentCounter(String method) {
+            return payments.computeIfAbsent(method, m -> new PaymentCounter());
+        }
+    }
+
+    private static final class PaymentCounter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder amount = new LongAdder();
+    }
+}
@@ -0,0 +1,132 @@
+package com.coffeeplz.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 검색용 문자열 처리 유틸리티
+ */
+final class HangulText {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    // 초성 하나당 중성 21 x 종성 28 = 588 글자
+    private static final int SYLLABLES_PER_CHOSUNG = 588;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulText() {
+    }
+
+    /**
+     * 검색용 정규화 (NFC, 소문자, 공백 제거)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder result = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 초성으로 쓰일 수 있는 호환용 자음인지 확인 (ㄱ, ㄲ, ... ㅎ)
+     */
+    static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 완성형 한글은 초성으로 바꾸고 나머지 문자는 그대로 둔 문자열 (아메리카노 -> ㅇㅁㄹㅋㄴ)
+     */
+    static String toChosung(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            result.append(chosungOf(text.charAt(i)));
+        }
+        return result.toString();
+    }
+
+    static char chosungOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+    }
+
+    /**
+     * text의 offset 위치부터 query가 일치하는지 확인 (query의 초성 자음은 해당 초성을 가진 글자와 일치)
+     */
+    static boolean matchesAt(String text, String query, int offset) {
+        if (offset + query.length() > text.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char t = text.charAt(offset + i);
+            if (q != t && !(isChosung(q) && chosungOf(t) == q)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * text 어디에서든 query가 일치하는 첫 위치 (없으면 -1)
+     */
+    static int indexOf(String text, String query) {
+        for (int offset = 0; offset + query.length() <= text.length(); offset++) {
+            if (matchesAt(text, query, offset)) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * n-gram 색인 키 (2글자 단위, 한 글자 문자열은 그대로)
+     */
+    static Set<String> bigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,244 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.entity.IdempotencyRecord;
+import com.coffeeplz.repository.IdempotencyRecordRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Idempotency-Key 요청 상태 저장소
+ *
+ * 최근 키는 크기 제한이 있는 메모리 맵에서 처리하고, 완료된 응답은 idempotency_keys 테이블에도 기록해
+ * 재시작 뒤의 재시도에도 같은 응답을 돌려준다. 처리 중 상태는 메모리에만 둔다 (단일 인스턴스 전제).
+ * DB 장애 중에는 메모리 맵만으로 판단하고(장애 중 재시작 전에 완료된 키는 알아보지 못한다),
+ * 기록하지 못한 응답은 모아 두었다가 retry-interval-ms마다 다시 기록한다.
+ */
+@Component
+@Slf4j
+public class IdempotencyKeys {
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final TransactionTemplate recordTransaction;
+    private final Duration ttl;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 오래된 키부터 내보내기 위한 등록 순서
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    // DB에 기록하지 못한 응답 (키별 최신 하나)
+    private final Map<String, IdempotencyRecord> unsavedRecords = new ConcurrentHashMap<>();
+
+    public IdempotencyKeys(IdempotencyRecordRepository recordRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${coffeeplz.idempotency.ttl-hours:24}") long ttlHours,
+                           @Value("${coffeeplz.idempotency.max-entries:10000}") int maxEntries) {
+        this.recordRepository = recordRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.maxEntries = maxEntries;
+
+        this.recordTransaction = new TransactionTemplate(transactionManager);
+        this.recordTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 요청 처리 시작 (처음 보는 키면 처리 중으로 표시하고 PROCEED)
+     */
+    public Decision begin(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        Entry current = entries.get(key);
+        if (current == null || current.isExpired(now)) {
+            Entry loaded = loadRecord(key, now);
+            Entry candidate = loaded != null ? loaded : Entry.inProgress(requestHash, now.plus(ttl));
+            // DB를 읽는 사이 같은 키의 다른 요청이 먼저 등록했으면 그 상태를 따른다
+            current = entries.compute(key, (k, existing) ->
+                    existing == null || existing.isExpired(now) ? candidate : existing);
+            if (current == candidate) {
+                remember(key);
+                if (loaded == null) {
+                    return Decision.proceed();
+                }
+            }
+        }
+
+        if (!current.requestHash.equals(requestHash)) {
+            return Decision.of(Decision.Type.MISMATCH, null);
+        }
+        return current.response == null
+                ? Decision.of(Decision.Type.IN_PROGRESS, null)
+                : Decision.of(Decision.Type.REPLAY, current.response);
+    }
+
+    /**
+     * 처리 성공 - 응답 저장
+     */
+    public void complete(String key, String requestHash, StoredResponse response) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        if (entries.put(key, new Entry(requestHash, response, expiresAt)) == null) {
+            remember(key);
+        }
+
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .statusCode(response.getStatus())
+                .contentType(response.getContentType())
+                .responseBody(response.getBody())
+                .expiresAt(expiresAt)
+                .build();
+        try {
+            recordTransaction.executeWithoutResult(status -> recordRepository.save(record));
+        } catch (RuntimeException e) {
+            // 메모리에는 남아 있으므로 그동안의 재시도에는 응답할 수 있다
+            log.warn("Idempotency 응답 기록 실패 - 나중에 다시 기록, 키: {}: {}", key, e.getMessage());
+            unsavedRecords.put(key, record);
+        }
+    }
+
+    /**
+     * 기록하지 못한 응답 다시 기록 (DB가 아직 안 되면 다음 주기에)
+     */
+    @Scheduled(fixedDelayString = "${coffeeplz.idempotency.retry-interval-ms:10000}")
+    public void saveUnsavedRecords() {
+        LocalDateTime now = LocalDateTime.now();
+        for (IdempotencyRecord record : List.copyOf(unsavedRecords.values())) {
+            if (record.getExpiresAt().isAfter(now)) {
+                try {
+                    recordTransaction.executeWithoutResult(status -> recordRepository.save(record));
+                } catch (RuntimeException e) {
+                    log.warn("Idempotency 응답 재기록 실패 - 남은 응답: {}개: {}", unsavedRecords.size(), e.getMessage());
+                    return;
+                }
+            }
+            unsavedRecords.remove(record.getKey(), record);
+        }
+    }
+
+    /**
+     * 처리 실패 - 같은 키로 다시 시도할 수 있도록 해제
+     */
+    public void abandon(String key) {
+        entries.computeIfPresent(key, (k, entry) -> entry.response == null ? null : entry);
+    }
+
+    /**
+     * 만료된 키 정리
+     */
+    @Scheduled(fixedDelayString = "${coffeeplz.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        entries.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+        insertionOrder.removeIf(key -> !entries.containsKey(key));
+
+        Integer deleted = recordTransaction.execute(status -> recordRepository.deleteExpired(now));
+        if (deleted != null && deleted > 0) {
+            log.info("만료된 Idempotency 키 삭제: {}개", deleted);
+        }
+    }
+
+    /**
+     * DB에 기록된 응답 조회 (없거나 만료되었거나 DB 장애면 null, 메모리 맵은 건드리지 않음)
+     */
+    private Entry loadRecord(String key, LocalDateTime now) {
+        IdempotencyRecord record;
+        try {
+            record = recordTransaction.execute(status -> recordRepository.findById(key).orElse(null));
+        } catch (RuntimeException e) {
+            if (!DatabaseFailures.isUnavailable(e)) {
+                throw e;
+            }
+            log.warn("Idempotency 기록 조회 실패 - 메모리 상태로 처리, 키: {}: {}", key, e.getMessage());
+            return null;
+        }
+        if (record == null || record.getExpiresAt().isBefore(now)) {
+            return null;
+        }
+        return new Entry(record.getRequestHash(),
+                new StoredResponse(record.getStatusCode(), record.getContentType(), record.getResponseBody()),
+                record.getExpiresAt());
+    }
+
+    /**
+     * 등록 순서에 추가하고 max-entries를 넘으면 오래된 키부터 내보냄 (처리 중인 키는 뒤로 돌려 남긴다)
+     */
+    private void remember(String key) {
+        insertionOrder.add(key);
+        int attempts = insertionOrder.size();
+        while (entries.size() > maxEntries && attempts-- > 0) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            Entry kept = entries.computeIfPresent(eldest, (k, entry) -> entry.response == null ? entry : null);
+            if (kept != null) {
+                insertionOrder.add(eldest);
+            }
+        }
+    }
+
+    /**
+     * 저장된 응답 (상태 코드, Content-Type, 본문)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class StoredResponse {
+        private final int status;
+        private final String contentType;
+        private final String body;
+    }
+
+    /**
+     * begin 결과
+     */
+    @Getter
+    @RequiredArgsConstructor(staticName = "of")
+    public static final class Decision {
+        public enum Type {
+            PROCEED,     // 처음 보는 키 - 요청 처리
+            REPLAY,      // 이미 처리됨 - 저장된 응답 반환
+            IN_PROGRESS, // 같은 키의 요청이 처리 중
+            MISMATCH     // 같은 키에 다른 요청 본문
+        }
+
+        private final Type type;
+        private final StoredResponse response;
+
+        static Decision proceed() {
+            return of(Type.PROCEED, null);
+        }
+    }
+
+    private static final class Entry {
+        private final String requestHash;
+        private final StoredResponse response;
+        private final LocalDateTime expiresAt;
+
+        private Entry(String requestHash, StoredResponse response, LocalDateTime expiresAt) {
+            this.requestHash = requestHash;
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private static Entry inProgress(String requestHash, LocalDateTime expiresAt) {
+            return new Entry(requestHash, null, expiresAt);
+        }
+
+        private boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
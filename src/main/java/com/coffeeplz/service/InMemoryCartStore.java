@@ -0,0 +1,427 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.MenuResponse;
+import com.coffeeplz.entity.Cart;
+import com.coffeeplz.entity.Money;
+import com.coffeeplz.repository.CartItemRepository;
+import com.coffeeplz.repository.CartRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리에 두는 테이블 장바구니 저장소 (기본값, coffeeplz.cart.store=memory)
+ *
+ * 장바구니 변경은 테이블별 잠금(스트라이프) 안에서 메모리만 바꾸고,
+ * 변경된 장바구니는 장애 복구용으로 주기적으로 cart / cart_items에 통째로 기록한다.
+ * 기록에는 메모리의 장바구니/아이템 ID를 그대로 쓰므로, 재시작 후 복구해도 클라이언트가 들고 있는 아이템 ID가 유지된다.
+ * 기동 시 기록된 장바구니를 다시 읽어 오며, 마지막 변경 후 TTL이 지난 장바구니는 정리한다.
+ * 장바구니는 이 인스턴스의 메모리가 기준이므로 단일 인스턴스 운영을 전제로 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "coffeeplz.cart.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryCartStore implements CartStore {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final Duration ttl;
+
+    private final Map<Long, MutableCart> carts = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    // 다음 기록 때 DB에 반영할 테이블 / DB에 기록이 남아 있는 테이블
+    private final Set<Long> dirtyTables = ConcurrentHashMap.newKeySet();
+    private final Set<Long> persistedTables = ConcurrentHashMap.newKeySet();
+    // 기동 시각을 기준값으로 쓰고, 복구한 장바구니의 ID보다는 항상 크게 발급
+    private final AtomicLong idSequence = new AtomicLong(System.currentTimeMillis());
+
+    public InMemoryCartStore(CartRepository cartRepository,
+                             CartItemRepository cartItemRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${coffeeplz.cart.ttl-minutes:180}") long ttlMinutes) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 기동 시 DB에 기록된 장바구니 복구
+     *
+     * 요청을 받기 전에 끝내야 그 사이 고객이 새로 담은 장바구니를 기록된 장바구니로 덮어쓰지 않는다.
+     */
+    @PostConstruct
+    public void restore() {
+        List<Cart> saved = snapshotTransaction.execute(status -> cartRepository.findAllWithItems());
+        for (Cart cart : saved) {
+            TableCart snapshot = TableCart.of(cart);
+            persistedTables.add(snapshot.getTableId());
+            idSequence.accumulateAndGet(snapshot.getId(), Math::max);
+            snapshot.getItems().forEach(item -> idSequence.accumulateAndGet(item.getId(), Math::max));
+            if (!snapshot.isEmpty()) {
+                carts.put(snapshot.getTableId(), MutableCart.restore(snapshot));
+            } else {
+                dirtyTables.add(snapshot.getTableId());
+            }
+        }
+        log.info("장바구니 복구 완료 - 장바구니: {}개", carts.size());
+    }
+
+    @Override
+    public Optional<TableCart> find(Long tableId) {
+        synchronized (lockOf(tableId)) {
+            MutableCart cart = carts.get(tableId);
+            if (cart == null || cart.isExpired(LocalDateTime.now(), ttl)) {
+                return Optional.empty();
+            }
+            return Optional.of(cart.toTableCart());
+        }
+    }
+
+    @Override
+    public TableCart addItem(Long tableId, MenuResponse menu, int quantity, String notes) {
+        synchronized (lockOf(tableId)) {
+            LocalDateTime now = LocalDateTime.now();
+            MutableCart cart = carts.get(tableId);
+            if (cart == null || cart.isExpired(now, ttl)) {
+                cart = new MutableCart(idSequence.incrementAndGet(), tableId, now);
+                carts.put(tableId, cart);
+                log.info("새로운 장바구니 생성 - 테이블: {}", tableId);
+            }
+
+            MutableItem item = cart.findItemByMenu(menu.getId());
+            if (item != null) {
+                item.quantity += quantity;
+            } else {
+                cart.items.add(new MutableItem(idSequence.incrementAndGet(), menu.getId(), menu.getName(),
+                        quantity, Money.of(menu.getPrice()), notes));
+            }
+            return touch(cart, now);
+        }
+    }
+
+    @Override
+    public TableCart updateQuantity(Long tableId, Long itemId, int quantity) {
+        synchronized (lockOf(tableId)) {
+            MutableCart cart = carts.get(tableId);
+            MutableItem item = cart != null ? cart.findItem(itemId) : null;
+            if (item == null) {
+                throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다");
+            }
+
+            item.quantity = quantity;
+            return touch(cart, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public TableCart removeItem(Long tableId, Long itemId) {
+        synchronized (lockOf(tableId)) {
+            MutableCart cart = carts.get(tableId);
+            MutableItem item = cart != null ? cart.findItem(itemId) : null;
+            if (item == null) {
+                throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다");
+            }
+
+            cart.items.remove(item);
+            return touch(cart, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 기록된 장바구니는 현재 트랜잭션(주문 생성 등)에서 바로 지우고, 메모리는 커밋 후 비운다
+     *
+     * 트랜잭션 밖(비동기 주문 접수)에서는 DB 장애 중에도 비울 수 있도록 메모리만 비우고, 기록된 장바구니는 다음 기록 때 지운다.
+     * 어느 쪽이든 다음 기록 대상으로 남긴다 (진행 중이던 기록이 비우기 전 장바구니를 써 넣었을 수 있다).
+     */
+    @Override
+    public void clear(Long tableId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            synchronized (lockOf(tableId)) {
+                carts.remove(tableId);
+                dirtyTables.add(tableId);
+            }
+            return;
+        }
+
+        if (persistedTables.contains(tableId)) {
+            cartRepository.findByTableIdWithItems(tableId).ifPresent(cartRepository::delete);
+        }
+
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lockOf(tableId)) {
+                carts.remove(tableId);
+                dirtyTables.add(tableId);
+            }
+        });
+    }
+
+    /**
+     * 주문한 수량만큼 메모리에서 바로 빼고, 트랜잭션이 롤백되면 뺀 만큼 되돌린다
+     *
+     * 기록된 장바구니는 {@link #clear}처럼 현재 트랜잭션에서 지우고, 남은 아이템은 커밋 후 다음 기록 때 다시 기록한다.
+     */
+    @Override
+    public Optional<TableCart> removeOrderedItems(TableCart ordered) {
+        Long tableId = ordered.getTableId();
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            synchronized (lockOf(tableId)) {
+                takeOrdered(ordered);
+                dirtyTables.add(tableId);
+                return Optional.ofNullable(carts.get(tableId)).map(MutableCart::toTableCart);
+            }
+        }
+
+        if (persistedTables.contains(tableId)) {
+            cartRepository.findByTableIdWithItems(tableId).ifPresent(cartRepository::delete);
+        }
+
+        List<MutableItem> taken;
+        Optional<TableCart> remaining;
+        synchronized (lockOf(tableId)) {
+            taken = takeOrdered(ordered);
+            remaining = Optional.ofNullable(carts.get(tableId)).map(MutableCart::toTableCart);
+        }
+
+        // 남은 장바구니가 없어도 다시 기록 대상으로 둔다 (주문 전 사본을 기록 중이었으면 다음 기록이 지운다)
+        TransactionHooks.afterCommit(() -> dirtyTables.add(tableId));
+        TransactionHooks.afterRollback(() -> putBack(ordered, taken));
+        return remaining;
+    }
+
+    @Override
+    public int cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+        for (Long tableId : new ArrayList<>(carts.keySet())) {
+            synchronized (lockOf(tableId)) {
+                MutableCart cart = carts.get(tableId);
+                if (cart != null && (cart.items.isEmpty() || cart.isExpired(now, ttl))) {
+                    carts.remove(tableId);
+                    if (persistedTables.contains(tableId)) {
+                        dirtyTables.add(tableId);
+                    }
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.info("장바구니 정리 - 삭제: {}개", removed);
+        }
+        return removed;
+    }
+
+    /**
+     * 변경된 장바구니를 장애 복구용으로 DB에 기록
+     *
+     * 사본을 뜬 뒤 기록이 끝나기 전에 바뀐 테이블은 그 변경이 다시 기록 대상으로 표시하므로, 다음 기록에서 바로잡는다.
+     */
+    @Scheduled(fixedDelayString = "${coffeeplz.cart.snapshot-interval-ms:30000}",
+            initialDelayString = "${coffeeplz.cart.snapshot-interval-ms:30000}")
+    public synchronized void snapshot() {
+        cleanup();
+
+        int written = 0;
+        for (Long tableId : new ArrayList<>(dirtyTables)) {
+            TableCart cart;
+            synchronized (lockOf(tableId)) {
+                dirtyTables.remove(tableId);
+                MutableCart current = carts.get(tableId);
+                cart = current != null ? current.toTableCart() : null;
+            }
+
+            try {
+                snapshotTransaction.executeWithoutResult(status -> writeSnapshot(tableId, cart));
+            } catch (RuntimeException e) {
+                dirtyTables.add(tableId);
+                log.warn("장바구니 기록 실패 - 테이블: {}", tableId, e);
+                continue;
+            }
+
+            synchronized (lockOf(tableId)) {
+                if (cart != null && !cart.isEmpty()) {
+                    persistedTables.add(tableId);
+                } else {
+                    persistedTables.remove(tableId);
+                }
+            }
+            written++;
+        }
+        if (written > 0) {
+            log.debug("장바구니 기록 완료 - 테이블: {}개", written);
+        }
+    }
+
+    private void writeSnapshot(Long tableId, TableCart cart) {
+        cartRepository.findByTableIdWithItems(tableId).ifPresent(existing -> {
+            cartRepository.delete(existing);
+            cartRepository.flush();
+        });
+        if (cart == null || cart.isEmpty()) {
+            return;
+        }
+
+        // 메모리의 ID와 마지막 변경 시각을 그대로 기록 (복구 후에도 같은 ID, 같은 만료 기준)
+        cartRepository.insertWithId(cart.getId(), tableId, cart.getCreatedAt(), cart.getUpdatedAt());
+        for (TableCart.Item item : cart.getItems()) {
+            cartItemRepository.insertWithId(item.getId(), cart.getId(), item.getMenuId(), item.getQuantity(),
+                    item.getUnitPrice().toBigDecimal(), item.getSubtotal().toBigDecimal(), item.getNotes(),
+                    cart.getUpdatedAt());
+        }
+    }
+
+    /**
+     * 주문한 아이템을 주문한 수량만큼 빼고 실제로 뺀 만큼 돌려줌 (테이블 잠금 안에서 호출)
+     */
+    private List<MutableItem> takeOrdered(TableCart ordered) {
+        MutableCart cart = carts.get(ordered.getTableId());
+        if (cart == null) {
+            return List.of();
+        }
+
+        List<MutableItem> taken = new ArrayList<>();
+        for (TableCart.Item orderedItem : ordered.getItems()) {
+            MutableItem item = cart.findItem(orderedItem.getId());
+            if (item == null) {
+                continue;
+            }
+            int quantity = Math.min(item.quantity, orderedItem.getQuantity());
+            item.quantity -= quantity;
+            if (item.quantity == 0) {
+                cart.items.remove(item);
+            }
+            taken.add(new MutableItem(item.id, item.menuId, item.menuName, quantity, item.unitPrice, item.notes));
+        }
+        if (cart.items.isEmpty()) {
+            carts.remove(ordered.getTableId());
+        }
+        return taken;
+    }
+
+    /**
+     * 주문이 롤백되면 뺀 아이템을 같은 ID로 되돌림 (그 사이 같은 메뉴를 다시 담았으면 수량만 합침)
+     */
+    private void putBack(TableCart ordered, List<MutableItem> taken) {
+        Long tableId = ordered.getTableId();
+        synchronized (lockOf(tableId)) {
+            LocalDateTime now = LocalDateTime.now();
+            MutableCart cart = carts.get(tableId);
+            if (cart == null) {
+                cart = new MutableCart(ordered.getId(), tableId, ordered.getCreatedAt());
+                carts.put(tableId, cart);
+            }
+            for (MutableItem takenItem : taken) {
+                MutableItem item = cart.findItem(takenItem.id);
+                if (item == null) {
+                    item = cart.findItemByMenu(takenItem.menuId);
+                }
+                if (item != null) {
+                    item.quantity += takenItem.quantity;
+                } else {
+                    cart.items.add(takenItem);
+                }
+            }
+            touch(cart, now);
+        }
+    }
+
+    private TableCart touch(MutableCart cart, LocalDateTime now) {
+        cart.updatedAt = now;
+        dirtyTables.add(cart.tableId);
+        return cart.toTableCart();
+    }
+
+    private Object lockOf(Long tableId) {
+        return locks[Math.floorMod(tableId.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 아래 클래스의 필드는 해당 테이블의 잠금 안에서만 접근
+    private static final class MutableCart {
+        private final Long id;
+        private final Long tableId;
+        private final LocalDateTime createdAt;
+        private final List<MutableItem> items = new ArrayList<>();
+        private LocalDateTime updatedAt;
+
+        private MutableCart(Long id, Long tableId, LocalDateTime createdAt) {
+            this.id = id;
+            this.tableId = tableId;
+            this.createdAt = createdAt;
+            this.updatedAt = createdAt;
+        }
+
+        private static MutableCart restore(TableCart saved) {
+            MutableCart cart = new MutableCart(saved.getId(), saved.getTableId(), saved.getCreatedAt());
+            cart.updatedAt = saved.getUpdatedAt();
+            for (TableCart.Item item : saved.getItems()) {
+                cart.items.add(new MutableItem(item.getId(), item.getMenuId(), item.getMenuName(),
+                        item.getQuantity(), item.getUnitPrice(), item.getNotes()));
+            }
+            return cart;
+        }
+
+        private boolean isExpired(LocalDateTime now, Duration ttl) {
+            return updatedAt.plus(ttl).isBefore(now);
+        }
+
+        private MutableItem findItem(Long itemId) {
+            return items.stream().filter(item -> item.id.equals(itemId)).findFirst().orElse(null);
+        }
+
+        private MutableItem findItemByMenu(Long menuId) {
+            return items.stream().filter(item -> item.menuId.equals(menuId)).findFirst().orElse(null);
+        }
+
+        private TableCart toTableCart() {
+            List<TableCart.Item> snapshot = items.stream()
+                    .map(item -> new TableCart.Item(item.id, item.menuId, item.menuName,
+                            item.quantity, item.unitPrice, item.notes))
+                    .toList();
+            return new TableCart(id, tableId, snapshot, createdAt, updatedAt);
+        }
+    }
+
+    private static final class MutableItem {
+        private final Long id;
+        private final Long menuId;
+        private final String menuName;
+        private final Money unitPrice;
+        private final String notes;
+        private int quantity;
+
+        private MutableItem(Long id, Long menuId, String menuName, int quantity, Money unitPrice, String notes) {
+            this.id = id;
+            this.menuId = menuId;
+            this.menuName = menuName;
+            this.quantity = quantity;
+            this.unitPrice = unitPrice;
+            this.notes = notes;
+        }
+    }
+}
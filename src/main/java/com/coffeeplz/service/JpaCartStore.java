@@ -0,0 +1,141 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.MenuResponse;
+import com.coffeeplz.entity.CartItem;
+import com.coffeeplz.entity.Money;
+import com.coffeeplz.repository.CartItemRepository;
+import com.coffeeplz.repository.CartRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * cart / cart_items 테이블에 바로 기록하는 장바구니 저장소 (coffeeplz.cart.store=jpa)
+ *
+ * 추가는 upsert 한 번과 장바구니 조회 한 번으로 끝나며,
+ * 같은 메뉴를 동시에 담아도 (cart_id, menu_id) 유니크 제약으로 수량이 합쳐진다.
+ */
+@Component
+@ConditionalOnProperty(name = "coffeeplz.cart.store", havingValue = "jpa")
+@RequiredArgsConstructor
+@Slf4j
+public class JpaCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<TableCart> find(Long tableId) {
+        return cartRepository.findByTableIdWithItems(tableId).map(TableCart::of);
+    }
+
+    @Override
+    public TableCart addItem(Long tableId, MenuResponse menu, int quantity, String notes) {
+        LocalDateTime now = LocalDateTime.now();
+        Money unitPrice = Money.of(menu.getPrice());
+        Money subtotal = unitPrice.times(quantity);
+
+        // 이미 담긴 메뉴면 수량만 합쳐지고 이 ID는 쓰이지 않는다
+        Long itemId = nextCartItemId();
+        int inserted = cartItemRepository.upsertQuantityByTable(itemId, tableId, menu.getId(), quantity,
+                unitPrice.toBigDecimal(), subtotal.toBigDecimal(), notes, now);
+        if (inserted == 0) {
+            // 장바구니가 없으면 생성 후 다시 시도 (동시에 생성되면 먼저 만들어진 장바구니 사용)
+            cartRepository.insertIfAbsent(tableId, now);
+            cartItemRepository.upsertQuantityByTable(itemId, tableId, menu.getId(), quantity,
+                    unitPrice.toBigDecimal(), subtotal.toBigDecimal(), notes, now);
+            log.info("새로운 장바구니 생성 - 테이블: {}", tableId);
+        }
+
+        // upsert는 영향받은 행 수만 돌려주므로 (MySQL은 RETURNING 없음) 나머지 아이템과 합쳐진 수량은 같은 트랜잭션에서 한 번 읽는다
+        return find(tableId)
+                .orElseThrow(() -> new IllegalStateException("장바구니 생성에 실패했습니다"));
+    }
+
+    @Override
+    public TableCart updateQuantity(Long tableId, Long itemId, int quantity) {
+        CartItem cartItem = findTableItem(tableId, itemId);
+        cartItem.updateQuantity(quantity);
+        cartItemRepository.save(cartItem);
+
+        return find(tableId).orElseThrow();
+    }
+
+    @Override
+    public TableCart removeItem(Long tableId, Long itemId) {
+        CartItem cartItem = findTableItem(tableId, itemId);
+        cartItemRepository.delete(cartItem);
+        // 삭제는 남은 아이템에 흔적이 없으므로 장바구니 변경 시각을 갱신해 만료 판단에 반영
+        cartRepository.touchByTableId(tableId, LocalDateTime.now());
+
+        return find(tableId).orElseThrow();
+    }
+
+    @Override
+    public void clear(Long tableId) {
+        cartRepository.findByTableIdWithItems(tableId).ifPresent(cartRepository::delete);
+    }
+
+    @Override
+    @Transactional
+    public Optional<TableCart> removeOrderedItems(TableCart ordered) {
+        return cartRepository.findByTableIdWithItems(ordered.getTableId()).flatMap(cart -> {
+            for (TableCart.Item orderedItem : ordered.getItems()) {
+                cart.getCartItems().stream()
+                        .filter(cartItem -> cartItem.getId().equals(orderedItem.getId()))
+                        .findFirst()
+                        .ifPresent(cartItem -> {
+                            if (cartItem.getQuantity() > orderedItem.getQuantity()) {
+                                cartItem.updateQuantity(cartItem.getQuantity() - orderedItem.getQuantity());
+                            } else {
+                                cart.getCartItems().remove(cartItem);
+                            }
+                        });
+            }
+
+            if (cart.isEmpty()) {
+                cartRepository.delete(cart);
+                return Optional.empty();
+            }
+            return Optional.of(TableCart.of(cart));
+        });
+    }
+
+    /**
+     * 메모리에 들고 있는 장바구니가 없으므로 할 일 없음 (만료 삭제는 {@link CartExpiry})
+     */
+    @Override
+    public int cleanup() {
+        return 0;
+    }
+
+    /**
+     * CartItem 엔티티의 ID 생성기에서 다음 ID 발급 (DB를 거치지 않음)
+     */
+    private Long nextCartItemId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(CartItem.class)
+                .getGenerator();
+        return (Long) generator.generate(session, null);
+    }
+
+    private CartItem findTableItem(Long tableId, Long itemId) {
+        CartItem cartItem = cartItemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다"));
+
+        if (!cartItem.getCart().getTable().getId().equals(tableId)) {
+            throw new IllegalArgumentException("해당 테이블의 장바구니 아이템이 아닙니다");
+        }
+        return cartItem;
+    }
+}
@@ -0,0 +1,238 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.KitchenEventResponse;
+import com.coffeeplz.dto.KitchenOrderResponse;
+import com.coffeeplz.entity.Order;
+import com.coffeeplz.entity.OrderStatus;
+import com.coffeeplz.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 주방 보드 (진행 중인 주문을 생성 순으로 메모리에 유지)
+ *
+ * 주문 생성/상태 변경이 커밋되면 보드를 갱신하고 주방 화면 전체에 order 이벤트를 보낸다.
+ * 구독하면 현재 보드를 snapshot 이벤트로 먼저 받으므로 화면이 주문 목록을 다시 조회할 필요가 없다.
+ * 기동 시 DB의 진행 중인 주문으로 다시 채우며, 단일 인스턴스 운영을 전제로 한다.
+ */
+@Component
+@Slf4j
+public class KitchenBoard {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String ORDER_EVENT = "order";
+
+    private static final String HUB_KEY = "kitchen";
+    private static final Set<OrderStatus> ACTIVE_STATUSES =
+            EnumSet.of(OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.READY);
+    private static final Comparator<Position> CREATION_ORDER =
+            Comparator.comparing(Position::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+                    .thenComparing(Position::orderId);
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate restoreTransaction;
+    private final SseHub<String> hub;
+
+    // 아래 필드는 this 잠금 안에서만 변경
+    private final Map<Long, KitchenOrderResponse> ordersById = new HashMap<>();
+    private final NavigableMap<Position, KitchenOrderResponse> queue = new TreeMap<>(CREATION_ORDER);
+    // 조회는 잠금 없이 마지막으로 만든 목록을 그대로 반환
+    private volatile List<KitchenOrderResponse> snapshot = List.of();
+
+    public KitchenBoard(OrderRepository orderRepository,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${coffeeplz.kitchen.sse.buffer-size:64}") int bufferSize,
+                        @Value("${coffeeplz.kitchen.sse.timeout-minutes:60}") long timeoutMinutes,
+                        @Value("${coffeeplz.kitchen.sse.send-threads:2}") int sendThreads,
+                        @Value("${coffeeplz.kitchen.sse.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.orderRepository = orderRepository;
+
+        this.restoreTransaction = new TransactionTemplate(transactionManager);
+        this.restoreTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.restoreTransaction.setReadOnly(true);
+
+        this.hub = new SseHub<>("kitchen", bufferSize, Duration.ofMinutes(timeoutMinutes), sendThreads,
+                Duration.ofMillis(sendTimeoutMillis), meterRegistry);
+    }
+
+    /**
+     * 기동 시 DB의 진행 중인 주문으로 보드 복구 (그 사이 들어온 주문은 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<KitchenOrderResponse> saved = restoreTransaction.execute(status ->
+                orderRepository.findActiveOrdersWithItems().stream()
+                        .map(KitchenBoard::toTicket)
+                        .toList());
+
+        synchronized (this) {
+            saved.stream()
+                    .filter(ticket -> !ordersById.containsKey(ticket.getOrderId()))
+                    .forEach(this::put);
+            refreshSnapshot();
+        }
+        log.info("주방 보드 복구 완료 - 진행 중인 주문: {}건", snapshot.size());
+    }
+
+    /**
+     * 현재 보드 (생성 순)
+     */
+    public List<KitchenOrderResponse> getOrders() {
+        return snapshot;
+    }
+
+    public SseEmitter subscribe() {
+        return hub.subscribe(HUB_KEY, SNAPSHOT_EVENT, this::getOrders);
+    }
+
+    /**
+     * 새 주문을 커밋 후 보드에 추가 (메뉴명은 장바구니 값을 사용해 메뉴를 다시 읽지 않는다)
+     */
+    void orderPlaced(Order order, TableCart cart) {
+        KitchenOrderResponse ticket = KitchenOrderResponse.builder()
+                .orderId(order.getId())
+                .tableId(order.getTable().getId())
+                .tableNumber(order.getTable().getTableNumber())
+                .status(order.getStatus().name())
+                .items(cart.getItems().stream()
+                        .map(item -> KitchenOrderResponse.Item.builder()
+                                .menuId(item.getMenuId())
+                                .menuName(item.getMenuName())
+                                .quantity(item.getQuantity())
+                                .notes(item.getNotes())
+                                .build())
+                        .toList())
+                .orderNotes(order.getOrderNotes())
+                .createdAt(order.getCreatedAt())
+                .build();
+
+        TransactionHooks.afterCommit(() -> apply(ticket));
+    }
+
+    /**
+     * 주문 상태 변경을 커밋 후 보드에 반영 (완료/취소되면 보드에서 제거)
+     */
+    void statusChanged(Order order) {
+        Long orderId = order.getId();
+        String status = order.getStatus().name();
+        // 보드에 없던 주문이 진행 상태가 되면 트랜잭션 안에서 메뉴까지 읽어 둔다
+        KitchenOrderResponse loaded = ACTIVE_STATUSES.contains(order.getStatus()) && !contains(orderId)
+                ? toTicket(order)
+                : null;
+
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                KitchenOrderResponse current = ordersById.get(orderId);
+                if (current != null) {
+                    apply(current.toBuilder().status(status).build());
+                } else if (loaded != null) {
+                    apply(loaded);
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${coffeeplz.kitchen.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        hub.heartbeat();
+    }
+
+    @PreDestroy
+    public void close() {
+        hub.close();
+    }
+
+    /**
+     * 보드 갱신 후 같은 잠금 안에서 이벤트를 발행해 화면이 받는 순서와 보드 순서를 맞춘다
+     */
+    private synchronized void apply(KitchenOrderResponse ticket) {
+        boolean active = ACTIVE_STATUSES.contains(OrderStatus.valueOf(ticket.getStatus()));
+        KitchenOrderResponse previous = remove(ticket.getOrderId());
+
+        KitchenEventResponse.Type type;
+        if (!active) {
+            if (previous == null) {
+                return;
+            }
+            type = KitchenEventResponse.Type.REMOVED;
+        } else {
+            put(ticket);
+            type = previous == null ? KitchenEventResponse.Type.ADDED : KitchenEventResponse.Type.STATUS_CHANGED;
+        }
+        refreshSnapshot();
+
+        hub.publish(HUB_KEY, ORDER_EVENT, KitchenEventResponse.builder()
+                .type(type)
+                .order(ticket)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    private synchronized boolean contains(Long orderId) {
+        return ordersById.containsKey(orderId);
+    }
+
+    private void put(KitchenOrderResponse ticket) {
+        ordersById.put(ticket.getOrderId(), ticket);
+        queue.put(Position.of(ticket), ticket);
+    }
+
+    private KitchenOrderResponse remove(Long orderId) {
+        KitchenOrderResponse removed = ordersById.remove(orderId);
+        if (removed != null) {
+            queue.remove(Position.of(removed));
+        }
+        return removed;
+    }
+
+    private void refreshSnapshot() {
+        snapshot = List.copyOf(queue.values());
+    }
+
+    private static KitchenOrderResponse toTicket(Order order) {
+        return KitchenOrderResponse.builder()
+                .orderId(order.getId())
+                .tableId(order.getTable().getId())
+                .tableNumber(order.getTable().getTableNumber())
+                .status(order.getStatus().name())
+                .items(order.getOrderItems().stream()
+                        .map(orderItem -> KitchenOrderResponse.Item.builder()
+                                .menuId(orderItem.getMenu().getId())
+                                .menuName(orderItem.getMenu().getName())
+                                .quantity(orderItem.getQuantity())
+                                .notes(orderItem.getNotes())
+                                .build())
+                        .toList())
+                .orderNotes(order.getOrderNotes())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+
+    private record Position(LocalDateTime createdAt, long orderId) {
+        private static Position of(KitchenOrderResponse ticket) {
+            return new Position(ticket.getCreatedAt(), ticket.getOrderId());
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.CategoryResponse;
+import com.coffeeplz.dto.MenuOptionResponse;
+import com.coffeeplz.dto.MenuResponse;
+import com.coffeeplz.entity.Category;
+import com.coffeeplz.entity.Menu;
+import com.coffeeplz.entity.MenuOption;
+import com.coffeeplz.repository.CategoryRepository;
+import com.coffeeplz.repository.MenuOptionRepository;
+import com.coffeeplz.repository.MenuRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 고객용 메뉴 카탈로그 인메모리 스냅샷
+ *
+ * 카테고리/메뉴/옵션을 한 번에 읽어 불변 스냅샷으로 만들고 원자적으로 교체한다.
+ * 고객 조회는 스냅샷만 읽으므로 DB 커넥션을 사용하지 않으며,
+ * 메뉴/카테고리 변경 트랜잭션이 커밋되면 {@link #invalidate(Change...)}로 재생성된다.
+ * 변경된 메뉴/카테고리 ID는 버전과 함께 제한된 크기의 변경 로그에 남겨
+ * 키오스크가 마지막으로 받은 버전 이후의 변경분만 받아갈 수 있게 한다.
+ * 스냅샷이 교체될 때마다 {@link Rebuilt} 이벤트를 발행해 검색 색인 등이 따라 갱신되도록 한다.
+ */
+@Component
+@Slf4j
+public class MenuCatalog {
+
+    private final MenuRepository menuRepository;
+    private final CategoryRepository categoryRepository;
+    private final MenuOptionRepository menuOptionRepository;
+    private final TransactionTemplate rebuildTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    // 재시작 후에도 이전 프로세스의 버전과 겹치지 않도록 기동 시각을 기준값으로 사용
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis());
+
+    // 아래 필드는 versionSequence 잠금 안에서만 접근
+    private final int changeLogSize;
+    private final Deque<LoggedChange> changeLog = new ArrayDeque<>();
+    private final Set<Change> pendingChanges = new LinkedHashSet<>();
+    // 이 버전 이상을 가진 클라이언트는 변경 로그만으로 동기화 가능
+    private long changeLogFloor = Long.MAX_VALUE;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer rebuildTimer;
+
+    public MenuCatalog(MenuRepository menuRepository,
+                       CategoryRepository categoryRepository,
+                       MenuOptionRepository menuOptionRepository,
+                       PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher,
+                       MeterRegistry meterRegistry,
+                       @Value("${coffeeplz.catalog.change-log-size:1000}") int changeLogSize) {
+        this.menuRepository = menuRepository;
+        this.categoryRepository = categoryRepository;
+        this.menuOptionRepository = menuOptionRepository;
+        this.eventPublisher = eventPublisher;
+        this.changeLogSize = changeLogSize;
+
+        // 커밋 직후(afterCommit)에도 호출되므로 항상 별도 트랜잭션에서 읽는다
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransaction.setReadOnly(true);
+
+        this.hitCounter = Counter.builder("coffeeplz.menu.catalog.lookups")
+                .description("메뉴 카탈로그 스냅샷 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("coffeeplz.menu.catalog.lookups")
+                .description("메뉴 카탈로그 스냅샷 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("coffeeplz.menu.catalog.rebuild")
+                .description("메뉴 카탈로그 스냅샷 생성 시간")
+                .register(meterRegistry);
+        Gauge.builder("coffeeplz.menu.catalog.version", this, MenuCatalog::version)
+                .description("현재 메뉴 카탈로그 버전")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 시 스냅샷 미리 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Snapshot snapshot = rebuild();
+        log.info("메뉴 카탈로그 초기화 완료 - 버전: {}, 메뉴: {}개", snapshot.getVersion(), snapshot.getAvailableMenus().size());
+    }
+
+    /**
+     * 현재 스냅샷 조회 (없으면 즉시 생성)
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null) {
+            hitCounter.increment();
+            return snapshot;
+        }
+
+        missCounter.increment();
+        return rebuild();
+    }
+
+    /**
+     * 현재 카탈로그 버전 (스냅샷이 없으면 0)
+     */
+    public long version() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot.getVersion() : 0L;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 변경 내역을 기록하고 스냅샷 재생성
+     */
+    public void invalidate(Change... changes) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (versionSequence) {
+                pendingChanges.addAll(Arrays.asList(changes));
+            }
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                // 재생성 실패 시 이전 스냅샷을 계속 제공하고, 변경 내역은 다음 재생성 때 함께 반영
+                log.error("메뉴 카탈로그 재생성 실패 - 현재 버전 유지: {}", version(), e);
+            }
+        });
+    }
+
+    /**
+     * 주어진 버전 이후의 변경분 조회
+     *
+     * 클라이언트 버전이 변경 로그 범위를 벗어났으면(오래되었거나 이전 프로세스의 버전이면)
+     * 전체 스냅샷을 돌려준다.
+     */
+    public Delta changesSince(long sinceVersion) {
+        Snapshot snapshot = snapshot();
+        synchronized (versionSequence) {
+            snapshot = current.get();
+            if (sinceVersion == snapshot.getVersion()) {
+                return Delta.changes(sinceVersion, snapshot, Set.of(), Set.of());
+            }
+            if (sinceVersion < changeLogFloor || sinceVersion > snapshot.getVersion()) {
+                return Delta.full(sinceVersion, snapshot);
+            }
+
+            Set<Long> menuIds = new LinkedHashSet<>();
+            Set<Long> categoryIds = new LinkedHashSet<>();
+            for (LoggedChange logged : changeLog) {
+                if (logged.version <= sinceVersion) {
+                    continue;
+                }
+                (logged.change.getKind() == ChangeKind.MENU ? menuIds : categoryIds).add(logged.change.getId());
+            }
+            return Delta.changes(sinceVersion, snapshot, menuIds, categoryIds);
+        }
+    }
+
+    /**
+     * DB에서 스냅샷을 다시 읽어 교체
+     */
+    Snapshot rebuild() {
+        synchronized (versionSequence) {
+            Snapshot snapshot = rebuildTimer.record(() -> rebuildTransaction.execute(status -> load()));
+            Snapshot previous = current.getAndSet(snapshot);
+            Rebuilt event = new Rebuilt(snapshot, changedMenuIds(), previous == null || pendingChanges.isEmpty());
+            appendToChangeLog(snapshot.getVersion());
+            log.debug("메뉴 카탈로그 갱신 - 버전: {}", snapshot.getVersion());
+            // 잠금 안에서 발행하므로 구독자는 스냅샷 교체 순서대로 이벤트를 받는다
+            eventPublisher.publishEvent(event);
+            return snapshot;
+        }
+    }
+
+    private Set<Long> changedMenuIds() {
+        return pendingChanges.stream()
+                .filter(change -> change.getKind() == ChangeKind.MENU)
+                .map(Change::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private void appendToChangeLog(long version) {
+        if (changeLogFloor == Long.MAX_VALUE) {
+            changeLogFloor = version;
+        }
+
+        for (Change change : pendingChanges) {
+            changeLog.addLast(new LoggedChange(version, change));
+        }
+        pendingChanges.clear();
+
+        while (changeLog.size() > changeLogSize) {
+            // 밀려난 변경을 모르는 클라이언트는 더 이상 변경분만으로 동기화할 수 없다
+            changeLogFloor = Math.max(changeLogFloor, changeLog.removeFirst().version);
+        }
+    }
+
+    private Snapshot load() {
+        List<Category> categories = categoryRepository.findAllByOrderByDisplayOrderAsc();
+        List<Menu> menus = menuRepository.findAvailableWithCategory();
+        List<MenuOption> options = menuOptionRepository.findAvailableOptionsOfAvailableMenus();
+
+        Map<Long, CategoryResponse> categoriesById = new LinkedHashMap<>();
+        for (Category category : categories) {
+            categoriesById.put(category.getId(), toCategoryResponse(category));
+        }
+
+        Map<Long, List<MenuOptionResponse>> optionsByMenuId = options.stream()
+                .collect(Collectors.groupingBy(option -> option.getMenu().getId(),
+                        Collectors.mapping(MenuCatalog::toMenuOptionResponse, Collectors.toList())));
+
+        List<MenuResponse> availableMenus = new ArrayList<>(menus.size());
+        for (Menu menu : menus) {
+            CategoryResponse category = menu.getCategory() != null
+                    ? categoriesById.get(menu.getCategory().getId())
+                    : null;
+            availableMenus.add(toMenuResponse(menu, category,
+                    optionsByMenuId.getOrDefault(menu.getId(), List.of())));
+        }
+
+        return new Snapshot(versionSequence.incrementAndGet(), LocalDateTime.now(), categoriesById, availableMenus);
+    }
+
+    private static CategoryResponse toCategoryResponse(Category category) {
+        return CategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .active(category.getIsActive())
+                .displayOrder(category.getDisplayOrder())
+                .build();
+    }
+
+    private static MenuOptionResponse toMenuOptionResponse(MenuOption option) {
+        return MenuOptionResponse.builder()
+                .id(option.getId())
+                .name(option.getName())
+                .description(option.getDescription())
+                .additionalPrice(option.getAdditionalPrice())
+                .required(option.getIsRequired())
+                .maxSelections(option.getMaxSelections())
+                .available(option.getIsAvailable())
+                .build();
+    }
+
+    private static MenuResponse toMenuResponse(Menu menu, CategoryResponse category, List<MenuOptionResponse> options) {
+        return MenuResponse.builder()
+                .id(menu.getId())
+                .name(menu.getName())
+                .description(menu.getDescription())
+                .price(menu.getPrice())
+                .imageUrl(menu.getImageUrl())
+                .available(menu.getIsAvailable())
+                .category(category)
+                .menuOptions(List.copyOf(options))
+                .createdAt(menu.getCreatedAt())
+                .updatedAt(menu.getUpdatedAt())
+                .build();
+    }
+
+    public enum ChangeKind {
+        MENU, CATEGORY
+    }
+
+    /**
+     * 카탈로그 변경 대상 (메뉴 옵션은 소속 메뉴의 변경으로 기록)
+     */
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Change {
+        private final ChangeKind kind;
+        private final Long id;
+
+        public static Change menu(Long menuId) {
+            return new Change(ChangeKind.MENU, menuId);
+        }
+
+        public static Change category(Long categoryId) {
+            return new Change(ChangeKind.CATEGORY, categoryId);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class LoggedChange {
+        private final long version;
+        private final Change change;
+    }
+
+    /**
+     * 스냅샷 교체 이벤트
+     *
+     * complete가 true이면 변경 대상을 알 수 없는 재생성(최초 생성 등)이므로 전체를 다시 반영해야 한다.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Rebuilt {
+        private final Snapshot snapshot;
+        private final Set<Long> changedMenuIds;
+        private final boolean complete;
+    }
+
+    /**
+     * 특정 버전 이후의 카탈로그 변경분
+     *
+     * 변경된 항목이 현재 스냅샷에 있으면 추가/수정, 없으면(삭제/품절/비활성) 제거로 본다.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Delta {
+        private final long fromVersion;
+        private final long version;
+        private final boolean fullSnapshot;
+        private final List<CategoryResponse> categories;
+        private final List<Long> removedCategoryIds;
+        private final List<MenuResponse> menus;
+        private final List<Long> removedMenuIds;
+
+        private static Delta full(long fromVersion, Snapshot snapshot) {
+            return new Delta(fromVersion, snapshot.getVersion(), true,
+                    snapshot.getActiveCategories(), List.of(), snapshot.getAvailableMenus(), List.of());
+        }
+
+        private static Delta changes(long fromVersion, Snapshot snapshot, Set<Long> menuIds, Set<Long> categoryIds) {
+            List<CategoryResponse> categories = new ArrayList<>();
+            List<Long> removedCategoryIds = new ArrayList<>();
+            for (Long categoryId : categoryIds) {
+                CategoryResponse category = snapshot.getCategoriesById().get(categoryId);
+                if (category != null && category.isActive()) {
+                    categories.add(category);
+                } else {
+                    removedCategoryIds.add(categoryId);
+                }
+            }
+
+            List<MenuResponse> menus = new ArrayList<>();
+            List<Long> removedMenuIds = new ArrayList<>();
+            for (Long menuId : menuIds) {
+                MenuResponse menu = snapshot.getAvailableMenu(menuId);
+                if (menu != null) {
+                    menus.add(menu);
+                } else {
+                    removedMenuIds.add(menuId);
+                }
+            }
+
+            return new Delta(fromVersion, snapshot.getVersion(), false,
+                    List.copyOf(categories), List.copyOf(removedCategoryIds),
+                    List.copyOf(menus), List.copyOf(removedMenuIds));
+        }
+    }
+
+    /**
+     * 특정 버전의 불변 카탈로그
+     */
+    @Getter
+    public static final class Snapshot {
+
+        private final long version;
+        private final LocalDateTime builtAt;
+        private final Map<Long, CategoryResponse> categoriesById;
+        private final List<CategoryResponse> activeCategories;
+        private final List<MenuResponse> availableMenus;
+        private final Map<Long, MenuResponse> availableMenusById;
+        private final Map<Long, List<MenuResponse>> availableMenusByCategory;
+
+        private Snapshot(long version, LocalDateTime builtAt,
+                         Map<Long, CategoryResponse> categoriesById, List<MenuResponse> availableMenus) {
+            this.version = version;
+            this.builtAt = builtAt;
+            this.categoriesById = Map.copyOf(categoriesById);
+            this.activeCategories = categoriesById.values().stream()
+                    .filter(CategoryResponse::isActive)
+                    .sorted(Comparator.comparingInt(CategoryResponse::getDisplayOrder)
+                            .thenComparing(CategoryResponse::getId))
+                    .toList();
+            this.availableMenus = List.copyOf(availableMenus);
+            this.availableMenusById = availableMenus.stream()
+                    .collect(Collectors.toUnmodifiableMap(MenuResponse::getId, menu -> menu));
+            this.availableMenusByCategory = availableMenus.stream()
+                    .filter(menu -> menu.getCategory() != null)
+                    .collect(Collectors.collectingAndThen(
+                            Collectors.groupingBy(menu -> menu.getCategory().getId(), Collectors.toUnmodifiableList()),
+                            Map::copyOf));
+        }
+
+        public boolean hasCategory(Long categoryId) {
+            return categoriesById.containsKey(categoryId);
+        }
+
+        public List<MenuResponse> getAvailableMenusOfCategory(Long categoryId) {
+            return availableMenusByCategory.getOrDefault(categoryId, List.of());
+        }
+
+        public MenuResponse getAvailableMenu(Long menuId) {
+            return availableMenusById.get(menuId);
+        }
+    }
+}
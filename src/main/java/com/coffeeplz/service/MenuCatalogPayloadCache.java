@@ -0,0 +1,160 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 메뉴 API 응답 바이트 캐시
+ *
+ * 카탈로그 버전별로 ApiResponse JSON 바이트와 gzip 압축본을 한 번만 만들어 두고,
+ * 요청마다 Jackson 직렬화와 압축을 반복하지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuCatalogPayloadCache {
+
+    private static final String AVAILABLE_MENUS = "menus:available";
+    private static final String CATEGORIES = "categories";
+    private static final String CATEGORY_MENUS_PREFIX = "menus:category:";
+
+    private final MenuCatalog menuCatalog;
+    private final ObjectMapper objectMapper;
+
+    private volatile Generation generation = new Generation(0L);
+
+    /**
+     * 현재 카탈로그 버전 (조건부 요청 검사용)
+     */
+    public long currentVersion() {
+        return menuCatalog.snapshot().getVersion();
+    }
+
+    /**
+     * 카테고리가 있는지 확인한 뒤 현재 카탈로그 버전 (카테고리별 조건부 요청 검사용, 없는 카테고리는 304가 아닌 400)
+     */
+    public long currentVersionOfCategory(Long categoryId) {
+        MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
+        if (!catalog.hasCategory(categoryId)) {
+            throw new IllegalArgumentException("카테고리를 찾을 수 없습니다");
+        }
+        return catalog.getVersion();
+    }
+
+    /**
+     * 판매 가능한 전체 메뉴 응답
+     */
+    public Payload availableMenus() {
+        return payload(AVAILABLE_MENUS, MenuCatalog.Snapshot::getAvailableMenus);
+    }
+
+    /**
+     * 카테고리별 메뉴 응답
+     */
+    public Payload menusByCategory(Long categoryId) {
+        MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
+        if (!catalog.hasCategory(categoryId)) {
+            throw new IllegalArgumentException("카테고리를 찾을 수 없습니다");
+        }
+
+        return payload(catalog, CATEGORY_MENUS_PREFIX + categoryId,
+                snapshot -> snapshot.getAvailableMenusOfCategory(categoryId));
+    }
+
+    /**
+     * 활성 카테고리 목록 응답
+     */
+    public Payload categories() {
+        return payload(CATEGORIES, MenuCatalog.Snapshot::getActiveCategories);
+    }
+
+    private Payload payload(String key, Function<MenuCatalog.Snapshot, Object> data) {
+        return payload(menuCatalog.snapshot(), key, data);
+    }
+
+    private Payload payload(MenuCatalog.Snapshot catalog, String key, Function<MenuCatalog.Snapshot, Object> data) {
+        Generation current = generationOf(catalog.getVersion());
+        if (current.version != catalog.getVersion()) {
+            // 더 새로운 버전이 이미 캐시 중이면 지난 스냅샷 응답은 캐시하지 않는다
+            return serialize(catalog.getVersion(), data.apply(catalog));
+        }
+        return current.payloads.computeIfAbsent(key, k -> serialize(catalog.getVersion(), data.apply(catalog)));
+    }
+
+    /**
+     * 카탈로그 버전이 바뀌면 이전 버전의 바이트를 통째로 버린다
+     */
+    private Generation generationOf(long version) {
+        Generation current = generation;
+        if (current.version == version) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (generation.version < version) {
+                generation = new Generation(version);
+            }
+            return generation;
+        }
+    }
+
+    private Payload serialize(long version, Object data) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(data));
+            byte[] gzip = gzip(json);
+            log.debug("메뉴 응답 캐시 생성 - 버전: {}, {}B (gzip {}B)", version, json.length, gzip.length);
+            return new Payload(version, json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 응답 직렬화에 실패했습니다", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(source.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                // 한 번만 압축하므로 최대 압축률 사용
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static final class Generation {
+        private final long version;
+        private final Map<String, Payload> payloads = new ConcurrentHashMap<>();
+
+        private Generation(long version) {
+            this.version = version;
+        }
+    }
+
+    /**
+     * 직렬화가 끝난 응답 본문 (원본 JSON / gzip)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Payload {
+        private final long version;
+        private final byte[] json;
+        private final byte[] gzip;
+    }
+}
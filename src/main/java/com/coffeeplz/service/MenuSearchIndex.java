@@ -0,0 +1,227 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.MenuResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메뉴 검색 인메모리 색인
+ *
+ * 메뉴 이름/설명을 2-gram으로 색인하고, 초성으로 바꾼 문자열도 따로 색인해
+ * "ㅇㅁㄹㅋ" 같은 초성 검색과 이름 앞부분 자동완성을 DB 조회 없이 처리한다.
+ * 카탈로그 스냅샷이 교체되면 변경된 메뉴만 다시 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuSearchIndex {
+
+    private static final String TEXT_GRAM = "t:";
+    private static final String CHOSUNG_GRAM = "c:";
+
+    private static final int SCORE_NAME_PREFIX = 3;
+    private static final int SCORE_NAME = 2;
+    private static final int SCORE_DESCRIPTION = 1;
+
+    private final MenuCatalog menuCatalog;
+    private final PopularMenuTracker popularMenuTracker;
+
+    // 색인 변경은 catalog 이벤트 스레드(카탈로그 잠금 안)에서만, 조회는 잠금 없이 수행
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile long indexedVersion;
+
+    /**
+     * 카탈로그 스냅샷 교체 시 색인 갱신
+     */
+    @EventListener
+    public void onCatalogRebuilt(MenuCatalog.Rebuilt event) {
+        MenuCatalog.Snapshot snapshot = event.getSnapshot();
+        if (event.isComplete() || indexedVersion == 0L) {
+            reindexAll(snapshot);
+        } else {
+            for (Long menuId : event.getChangedMenuIds()) {
+                reindex(menuId, snapshot.getAvailableMenu(menuId));
+            }
+        }
+        indexedVersion = snapshot.getVersion();
+        log.debug("메뉴 검색 색인 갱신 - 버전: {}, 메뉴: {}개", indexedVersion, documents.size());
+    }
+
+    /**
+     * 이름/설명 부분 일치 검색 (초성 포함, 일치 위치 → 인기순 정렬)
+     */
+    public List<MenuResponse> search(String keyword) {
+        String query = HangulText.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        return rank(query, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 이름 앞부분 자동완성 (초성 포함)
+     */
+    public List<MenuResponse> autocomplete(String prefix, int limit) {
+        String query = HangulText.normalize(prefix);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        return rank(query, true, limit);
+    }
+
+    private List<MenuResponse> rank(String query, boolean prefixOnly, int limit) {
+        // 스냅샷 조회가 색인 생성을 보장한다 (스냅샷이 없으면 생성되며 이벤트가 발행됨)
+        MenuCatalog.Snapshot snapshot = menuCatalog.snapshot();
+
+        List<Hit> hits = new ArrayList<>();
+        for (Long menuId : candidates(query)) {
+            Document document = documents.get(menuId);
+            MenuResponse menu = snapshot.getAvailableMenu(menuId);
+            if (document == null || menu == null) {
+                continue;
+            }
+
+            int score = document.score(query);
+            if (score == 0 || (prefixOnly && score != SCORE_NAME_PREFIX)) {
+                continue;
+            }
+            hits.add(new Hit(menu, score, popularMenuTracker.count(menuId)));
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingInt(Hit::getScore).reversed()
+                        .thenComparing(Comparator.comparingLong(Hit::getPopularity).reversed())
+                        .thenComparing(hit -> hit.getMenu().getName()))
+                .limit(limit)
+                .map(Hit::getMenu)
+                .toList();
+    }
+
+    /**
+     * 질의의 모든 gram을 가진 메뉴 ID (교집합, 최종 일치 여부는 Document에서 확인)
+     */
+    private Set<Long> candidates(String query) {
+        boolean chosungQuery = HangulText.containsChosung(query);
+        String key = chosungQuery ? CHOSUNG_GRAM : TEXT_GRAM;
+        String text = chosungQuery ? HangulText.toChosung(query) : query;
+
+        Set<Long> result = null;
+        for (String gram : HangulText.bigrams(text)) {
+            Set<Long> ids = postings.get(key + gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                return Set.of();
+            }
+        }
+        return result != null ? result : Set.of();
+    }
+
+    private void reindexAll(MenuCatalog.Snapshot snapshot) {
+        for (Long menuId : new ArrayList<>(documents.keySet())) {
+            if (snapshot.getAvailableMenu(menuId) == null) {
+                reindex(menuId, null);
+            }
+        }
+        for (MenuResponse menu : snapshot.getAvailableMenus()) {
+            reindex(menu.getId(), menu);
+        }
+    }
+
+    /**
+     * 메뉴 하나의 색인을 교체 (menu가 null이면 제거)
+     */
+    private void reindex(Long menuId, MenuResponse menu) {
+        Document previous = documents.remove(menuId);
+        if (previous != null) {
+            for (String gram : previous.grams()) {
+                postings.computeIfPresent(gram, (key, ids) -> {
+                    ids.remove(menuId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        if (menu == null) {
+            return;
+        }
+
+        Document document = Document.of(menu);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(menuId);
+        }
+        documents.put(menuId, document);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Hit {
+        private final MenuResponse menu;
+        private final int score;
+        private final long popularity;
+    }
+
+    /**
+     * 색인된 메뉴의 정규화된 이름/설명
+     */
+    @RequiredArgsConstructor
+    private static final class Document {
+        private final String name;
+        private final String description;
+
+        private static Document of(MenuResponse menu) {
+            return new Document(HangulText.normalize(menu.getName()), HangulText.normalize(menu.getDescription()));
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String text : List.of(name, description)) {
+                if (text.isEmpty()) {
+                    continue;
+                }
+                addGrams(grams, TEXT_GRAM, text);
+                addGrams(grams, CHOSUNG_GRAM, HangulText.toChosung(text));
+            }
+            return grams;
+        }
+
+        private static void addGrams(Set<String> grams, String key, String text) {
+            // 한 글자 질의도 찾을 수 있도록 글자 단위도 함께 색인
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(key + text.charAt(i));
+            }
+            HangulText.bigrams(text).forEach(gram -> grams.add(key + gram));
+        }
+
+        private int score(String query) {
+            int position = HangulText.indexOf(name, query);
+            if (position == 0) {
+                return SCORE_NAME_PREFIX;
+            }
+            if (position > 0) {
+                return SCORE_NAME;
+            }
+            return HangulText.indexOf(description, query) >= 0 ? SCORE_DESCRIPTION : 0;
+        }
+    }
+}
@@ -10,10 +10,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -23,42 +24,62 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final CategoryRepository categoryRepository;
+    private final MenuCatalog menuCatalog;
+    private final MenuSearchIndex menuSearchIndex;
+    private final PopularMenuTracker popularMenuTracker;
+    private final StockReservations stockReservations;
 
     /**
      * 전체 메뉴 조회 (소비자용) - 판매 가능한 메뉴만
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MenuResponse> getAllMenus() {
-        List<Menu> menus = menuRepository.findByIsAvailableTrue();
-        
-        return menus.stream()
-                .map(this::convertToMenuResponse)
-                .toList();
+        return menuCatalog.snapshot().getAvailableMenus();
     }
 
     /**
      * 카테고리별 메뉴 조회 (소비자용)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MenuResponse> getMenusByCategory(Long categoryId) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다"));
+        MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
+        if (!catalog.hasCategory(categoryId)) {
+            throw new IllegalArgumentException("카테고리를 찾을 수 없습니다");
+        }
 
-        List<Menu> menus = menuRepository.findByCategoryIdAndIsAvailableTrue(categoryId);
-        
-        return menus.stream()
-                .map(this::convertToMenuResponse)
-                .toList();
+        return catalog.getAvailableMenusOfCategory(categoryId);
     }
 
     /**
      * 메뉴 상세 조회 (옵션 포함)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MenuResponse getMenuById(Long menuId) {
-        Menu menu = menuRepository.findByIdWithOptionsAndIsAvailableTrue(menuId);
+        MenuResponse menu = menuCatalog.snapshot().getAvailableMenu(menuId);
         if (menu == null) {
             throw new IllegalArgumentException("메뉴를 찾을 수 없습니다");
         }
 
-        return convertToMenuResponse(menu);
+        return menu;
+    }
+
+    /**
+     * 카탈로그 변경분 조회 (오프라인 키오스크 동기화용)
+     * - sinceVersion이 없거나 변경 로그 범위를 벗어나면 전체 스냅샷 반환
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MenuCatalogSyncResponse getCatalogChanges(Long sinceVersion) {
+        MenuCatalog.Delta delta = menuCatalog.changesSince(sinceVersion != null ? sinceVersion : 0L);
+
+        return MenuCatalogSyncResponse.builder()
+                .fromVersion(delta.getFromVersion())
+                .version(delta.getVersion())
+                .fullSnapshot(delta.isFullSnapshot())
+                .categories(delta.getCategories())
+                .removedCategoryIds(delta.getRemovedCategoryIds())
+                .menus(delta.getMenus())
+                .removedMenuIds(delta.getRemovedMenuIds())
+                .build();
     }
 
     /**
@@ -90,6 +111,7 @@ public class MenuService {
                 .build();
 
         Menu savedMenu = menuRepository.save(menu);
+        menuCatalog.invalidate(MenuCatalog.Change.menu(savedMenu.getId()));
         log.info("메뉴 생성 완료: {} (ID: {})", savedMenu.getName(), savedMenu.getId());
 
         return convertToMenuResponse(savedMenu);
@@ -114,6 +136,7 @@ public class MenuService {
         );
 
         Menu updatedMenu = menuRepository.save(menu);
+        menuCatalog.invalidate(MenuCatalog.Change.menu(menuId));
         log.info("메뉴 수정 완료: {}", updatedMenu.getName());
 
         return convertToMenuResponse(updatedMenu);
@@ -134,9 +157,34 @@ public class MenuService {
         }
         
         menuRepository.save(menu);
+        menuCatalog.invalidate(MenuCatalog.Change.menu(menuId));
         log.info("메뉴 품절 상태 변경: {} -> {}", menu.getName(), isAvailable ? "판매중" : "품절");
     }
 
+    /**
+     * 메뉴 재고 설정 (관리자용, quantity가 null이면 재고 관리 해제)
+     */
+    @Transactional
+    public void updateMenuStock(Long menuId, Integer quantity) {
+        if (quantity != null && quantity < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다");
+        }
+
+        Menu menu = menuRepository.findById(menuId)
+                .orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다"));
+
+        if (quantity != null) {
+            menu.manageStock(quantity);
+        } else {
+            menu.stopManagingStock();
+        }
+
+        menuRepository.save(menu);
+        stockReservations.reset(menuId, quantity);
+        menuCatalog.invalidate(MenuCatalog.Change.menu(menuId));
+        log.info("메뉴 재고 설정: {} -> {}", menu.getName(), quantity != null ? quantity : "관리 안 함");
+    }
+
     /**
      * 메뉴 삭제 (실제 삭제, 관리자용)
      */
@@ -146,23 +194,16 @@ public class MenuService {
                 .orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다"));
 
         menuRepository.delete(menu);
+        menuCatalog.invalidate(MenuCatalog.Change.menu(menuId));
         log.info("메뉴 삭제 완료: {}", menu.getName());
     }
 
     /**
      * 전체 카테고리 조회
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CategoryResponse> getAllCategories() {
-        List<Category> categories = categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
-        
-        return categories.stream()
-                .map(category -> CategoryResponse.builder()
-                        .id(category.getId())
-                        .name(category.getName())
-                        .description(category.getDescription())
-                        .displayOrder(category.getDisplayOrder())
-                        .build())
-                .toList();
+        return menuCatalog.snapshot().getActiveCategories();
     }
 
     /**
@@ -179,6 +220,7 @@ public class MenuService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        menuCatalog.invalidate(MenuCatalog.Change.category(savedCategory.getId()));
         log.info("카테고리 생성 완료: {}", savedCategory.getName());
 
         return CategoryResponse.builder()
@@ -192,18 +234,15 @@ public class MenuService {
     /**
      * 인기 메뉴 조회 (통계용)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MenuResponse> getPopularMenus(int limit) {
-        // 최근 30일간의 인기 메뉴 조회
-        LocalDateTime startDate = LocalDateTime.now().minusDays(30);
-        Pageable pageable = Pageable.ofSize(limit);
-        
-        List<Object[]> popularMenusData = menuRepository.findPopularMenus(startDate, pageable);
-        
-        return popularMenusData.stream()
-                .map(data -> {
-                    Menu menu = (Menu) data[0];
-                    return convertToMenuResponse(menu);
-                })
+        // 최근 30일 인기 순위 중 현재 판매 가능한 메뉴만
+        MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
+
+        return popularMenuTracker.topMenuIds().stream()
+                .map(catalog::getAvailableMenu)
+                .filter(Objects::nonNull)
+                .limit(Math.max(limit, 0))
                 .toList();
     }
 
@@ -215,14 +254,19 @@ public class MenuService {
     }
 
     /**
-     * 메뉴 검색 (이름 기준)
+     * 메뉴 검색 (이름/설명 기준, 인메모리 색인)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MenuResponse> searchMenus(String keyword) {
-        List<Menu> menus = menuRepository.findByNameContainingAndIsAvailableTrue(keyword);
-        
-        return menus.stream()
-                .map(this::convertToMenuResponse)
-                .toList();
+        return menuSearchIndex.search(keyword);
+    }
+
+    /**
+     * 메뉴 이름 자동완성 (초성 포함)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<MenuResponse> autocompleteMenus(String prefix, int limit) {
+        return menuSearchIndex.autocomplete(prefix, limit);
     }
 
     /**
@@ -0,0 +1,397 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.OrderTicketResponse;
+import com.coffeeplz.entity.OrderTicket;
+import com.coffeeplz.entity.OrderTicketStatus;
+import com.coffeeplz.repository.OrderTicketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 비동기 주문 접수 (DB가 느려도 주문 요청이 요청 스레드를 붙잡지 않게 한다)
+ *
+ * coffeeplz.order.accept.enabled=true이면 장바구니 주문 요청은 장바구니 사본을 접수 저널({@link OrderAcceptJournal})에
+ * 기록한 뒤 장바구니를 비우고 바로 접수 번호를 돌려준다. workers개의 처리 스레드가 주문을 만들고,
+ * 결과는 주문과 같은 트랜잭션에서 order_tickets에 기록해 접수 조회와 SSE(ticket 이벤트)로 알린다.
+ * 테이블마다 같은 처리 스레드가 맡으므로 한 테이블의 접수는 접수 순서대로 주문이 된다.
+ * 업무 오류(IllegalArgumentException)는 FAILED로 끝내고, DB 연결 실패는 retry-delay-ms 간격으로 될 때까지 다시 처리한다.
+ * 그 밖의 오류(삭제된 메뉴의 FK 위반 등)는 max-attempts번까지만 다시 처리하고 FAILED로 끝내, 한 접수가 처리 스레드를 붙잡지 않게 한다.
+ * 재처리와 재기동 후 저널 재처리에서는 order_tickets에 이미 결과가 있는 접수를 건너뛰어 주문이 두 번 생기지 않는다.
+ *
+ * coffeeplz.order.accept.store-and-forward=true이면 꺼져 있어도 DB 연결 실패로 주문 생성이 실패하는 순간부터
+ * 모든 주문을 저널로 접수하고, 처리 스레드가 DB가 돌아와 첫 주문을 커밋하면 다시 바로 주문 생성으로 돌아간다.
+ */
+@Component
+@Slf4j
+public class OrderAccept {
+
+    static final String TICKET_EVENT = "ticket";
+
+    private final OrderService orderService;
+    private final CartService cartService;
+    private final OrderTicketRepository orderTicketRepository;
+    private final OrderAcceptJournal journal;
+    private final TransactionTemplate ticketTransaction;
+    private final SseHub<String> hub;
+    private final boolean enabled;
+    private final boolean storeAndForward;
+    private final int workers;
+    private final int maxPending;
+    private final long retryDelayMillis;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Timer lagTimer;
+    private final Timer outageTimer;
+    private final Counter failedCounter;
+
+    // 처리 스레드별 대기열 (테이블 ID로 나눔)
+    private final List<BlockingQueue<OrderAcceptJournal.Entry>> queues = new ArrayList<>();
+    // 처리 대기 중인 접수 (조회용, 처리가 끝나면 order_tickets에서 조회)
+    private final Map<String, OrderTicketResponse> accepted = new ConcurrentHashMap<>();
+    private final Map<Long, Object> tableLocks = new ConcurrentHashMap<>();
+    // DB 장애를 감지한 시각 (장애가 아니면 null)
+    private final AtomicReference<Instant> outageStartedAt = new AtomicReference<>();
+
+    private volatile boolean running;
+
+    public OrderAccept(OrderService orderService,
+                       CartService cartService,
+                       OrderTicketRepository orderTicketRepository,
+                       OrderAcceptJournal journal,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${coffeeplz.order.accept.enabled:false}") boolean enabled,
+                       @Value("${coffeeplz.order.accept.store-and-forward:false}") boolean storeAndForward,
+                       @Value("${coffeeplz.order.accept.workers:2}") int workers,
+                       @Value("${coffeeplz.order.accept.max-pending:10000}") int maxPending,
+                       @Value("${coffeeplz.order.accept.retry-delay-ms:1000}") long retryDelayMillis,
+                       @Value("${coffeeplz.order.accept.max-attempts:3}") int maxAttempts,
+                       @Value("${coffeeplz.order.accept.ticket-retention-hours:24}") long retentionHours,
+                       @Value("${coffeeplz.order.accept.sse.buffer-size:8}") int bufferSize,
+                       @Value("${coffeeplz.order.accept.sse.timeout-minutes:5}") long timeoutMinutes,
+                       @Value("${coffeeplz.order.accept.sse.send-threads:2}") int sendThreads,
+                       @Value("${coffeeplz.order.accept.sse.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.orderService = orderService;
+        this.cartService = cartService;
+        this.orderTicketRepository = orderTicketRepository;
+        this.journal = journal;
+        this.enabled = enabled;
+        this.storeAndForward = storeAndForward;
+        this.workers = workers;
+        this.maxPending = maxPending;
+        this.retryDelayMillis = retryDelayMillis;
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofHours(retentionHours);
+        this.hub = new SseHub<>("order-tickets", bufferSize, Duration.ofMinutes(timeoutMinutes), sendThreads,
+                Duration.ofMillis(sendTimeoutMillis), meterRegistry);
+
+        this.ticketTransaction = new TransactionTemplate(transactionManager);
+        this.ticketTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int i = 0; i < workers; i++) {
+            queues.add(new LinkedBlockingQueue<>());
+        }
+
+        Gauge.builder("coffeeplz.order.accept.pending", accepted, Map::size)
+                .description("처리 대기 중인 주문 접수 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("coffeeplz.order.accept.lag")
+                .description("접수부터 처리 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.outageTimer = Timer.builder("coffeeplz.order.accept.outage")
+                .description("DB 장애 감지부터 저널 재처리로 첫 주문을 커밋할 때까지 걸린 시간")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("coffeeplz.order.accept.failed")
+                .description("주문에 실패한 접수 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이전 실행에서 처리하지 못한 접수를 대기열에 다시 넣음 (처리는 기동 완료 후)
+     */
+    @PostConstruct
+    public void recover() {
+        for (OrderAcceptJournal.Entry entry : journal.pending()) {
+            accepted.put(entry.ticketId(), acceptedTicket(entry));
+            queueOf(entry.tableId()).add(entry);
+        }
+    }
+
+    /**
+     * 처리 스레드 시작 (꺼져 있어도 저널에 남은 접수가 있으면 그것은 처리한다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled && !storeAndForward && accepted.isEmpty()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            BlockingQueue<OrderAcceptJournal.Entry> queue = queues.get(i);
+            Thread thread = new Thread(() -> run(queue), "order-accept-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        log.info("주문 접수 처리 시작 - 처리 스레드: {}개, 대기 중인 접수: {}건", workers, accepted.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 처리 중인 주문은 마저 끝내고, 남은 접수는 저널에 남아 재기동 후 처리된다
+        running = false;
+        hub.close();
+    }
+
+    /**
+     * 지금 비동기로 접수할 수 있는지 (꺼져 있고 DB 장애도 아니거나, 처리 대기 접수가 max-pending을 넘으면 바로 주문 생성)
+     */
+    public boolean isAccepting() {
+        return (enabled || isDatabaseDown()) && running && accepted.size() < maxPending;
+    }
+
+    /**
+     * DB 장애로 저널 접수 중인지 (store-and-forward)
+     */
+    public boolean isDatabaseDown() {
+        return outageStartedAt.get() != null;
+    }
+
+    /**
+     * 주문 생성이 DB 연결 실패로 실패했으면 장애로 표시하고 저널로 접수 (store-and-forward가 꺼져 있거나 다른 오류면 그대로 던짐)
+     */
+    public OrderTicketResponse acceptOnOutage(Long tableId, String customerNotes, RuntimeException failure) {
+        if (!storeAndForward || !running || !DatabaseFailures.isUnavailable(failure)) {
+            throw failure;
+        }
+        markDown(failure);
+        return accept(tableId, customerNotes);
+    }
+
+    /**
+     * 장바구니 주문 접수 (저널에 기록되면 장바구니를 비우고 접수 번호 반환)
+     */
+    public OrderTicketResponse accept(Long tableId, String customerNotes) {
+        OrderAcceptJournal.Entry entry;
+        // 같은 테이블의 동시 접수가 같은 장바구니를 두 번 접수하지 않게 한다
+        synchronized (tableLocks.computeIfAbsent(tableId, id -> new Object())) {
+            entry = cartService.takeCartForOrder(tableId, cart -> {
+                OrderAcceptJournal.Entry journaled = OrderAcceptJournal.Entry.of(
+                        UUID.randomUUID().toString(), cart, customerNotes, LocalDateTime.now());
+                journal.append(journaled);
+                return journaled;
+            });
+        }
+
+        OrderTicketResponse ticket = acceptedTicket(entry);
+        accepted.put(entry.ticketId(), ticket);
+        queueOf(tableId).add(entry);
+        log.info("주문 접수 - 테이블: {}, 접수 번호: {}", tableId, entry.ticketId());
+        return ticket;
+    }
+
+    /**
+     * 접수 조회 (처리 전이면 ACCEPTED)
+     */
+    public OrderTicketResponse getTicket(String ticketId) {
+        OrderTicketResponse pending = accepted.get(ticketId);
+        if (pending != null) {
+            return pending;
+        }
+        return orderTicketRepository.findById(ticketId)
+                .map(OrderAccept::toResponse)
+                .orElseThrow(() -> new IllegalArgumentException("주문 접수 내역을 찾을 수 없습니다"));
+    }
+
+    /**
+     * 접수 결과 구독 (첫 ticket 이벤트로 현재 상태를, 처리가 끝나면 결과를 ticket 이벤트로 보냄)
+     */
+    public SseEmitter subscribe(String ticketId) {
+        getTicket(ticketId);
+        return hub.subscribe(ticketId, TICKET_EVENT, () -> getTicket(ticketId));
+    }
+
+    @Scheduled(fixedDelayString = "${coffeeplz.order.accept.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        hub.heartbeat();
+    }
+
+    /**
+     * 처리 후 보관 기간이 지난 접수 결과 삭제
+     */
+    @Scheduled(cron = "${coffeeplz.order.accept.cleanup-cron:0 20 * * * *}")
+    public void purge() {
+        Integer deleted = ticketTransaction.execute(status ->
+                orderTicketRepository.deleteCompletedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("주문 접수 결과 정리 - {}건", deleted);
+        }
+    }
+
+    /**
+     * 대기열의 접수를 순서대로 처리 (실패하면 같은 접수를 끝날 때까지 다시 처리해 뒤 접수가 앞지르지 않게 한다)
+     */
+    private void run(BlockingQueue<OrderAcceptJournal.Entry> queue) {
+        try {
+            while (running) {
+                OrderAcceptJournal.Entry entry = queue.poll(1, TimeUnit.SECONDS);
+                if (entry == null) {
+                    continue;
+                }
+                OrderTicket ticket = null;
+                int attempts = 0;
+                while (ticket == null && running) {
+                    try {
+                        ticket = attempts < maxAttempts
+                                ? complete(entry)
+                                : fail(entry, "주문을 처리하지 못했습니다. 직원에게 문의해주세요");
+                    } catch (RuntimeException e) {
+                        if (DatabaseFailures.isUnavailable(e)) {
+                            if (storeAndForward) {
+                                markDown(e);
+                            }
+                        } else if (++attempts >= maxAttempts) {
+                            log.error("접수 주문 처리 {}회 실패 - 실패로 처리합니다, 접수 번호: {}", attempts, entry.ticketId(), e);
+                            continue;
+                        }
+                        log.warn("접수 주문 처리 실패 - {}ms 뒤 재시도, 접수 번호: {}: {}",
+                                retryDelayMillis, entry.ticketId(), e.getMessage());
+                        Thread.sleep(retryDelayMillis);
+                    }
+                }
+                if (ticket != null) {
+                    markUp();
+                    finish(entry, ticket);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 주문 생성과 결과 기록을 한 트랜잭션으로 (업무 오류면 실패 결과만 기록)
+     *
+     * 커밋 응답을 받기 전에 연결이 끊겼거나 재기동 전에 처리된 접수일 수 있으므로 결과가 이미 있으면 그대로 쓴다.
+     */
+    private OrderTicket complete(OrderAcceptJournal.Entry entry) {
+        try {
+            return ticketTransaction.execute(status -> {
+                OrderTicket done = orderTicketRepository.findById(entry.ticketId()).orElse(null);
+                if (done != null) {
+                    return done;
+                }
+                Long orderId = orderService.createOrderFromAcceptedCart(entry.toCart(), entry.customerNotes());
+                return orderTicketRepository.save(ticket(entry, OrderTicketStatus.COMPLETED, orderId, null));
+            });
+        } catch (IllegalArgumentException e) {
+            return fail(entry, e.getMessage());
+        }
+    }
+
+    /**
+     * 실패 결과 기록 (이미 결과가 있으면 그대로 쓴다)
+     */
+    private OrderTicket fail(OrderAcceptJournal.Entry entry, String reason) {
+        return ticketTransaction.execute(status -> orderTicketRepository.findById(entry.ticketId())
+                .orElseGet(() -> orderTicketRepository.save(
+                        ticket(entry, OrderTicketStatus.FAILED, null, reason))));
+    }
+
+    private void markDown(RuntimeException cause) {
+        if (outageStartedAt.compareAndSet(null, Instant.now())) {
+            log.error("DB 연결 실패 - 주문을 저널로 접수합니다: {}", cause.getMessage());
+        }
+    }
+
+    private void markUp() {
+        Instant startedAt = outageStartedAt.getAndSet(null);
+        if (startedAt != null) {
+            Duration outage = Duration.between(startedAt, Instant.now());
+            outageTimer.record(outage);
+            log.info("DB 연결 복구 - 장애 {}ms, 남은 접수 {}건을 이어서 처리합니다", outage.toMillis(), accepted.size());
+        }
+    }
+
+    private BlockingQueue<OrderAcceptJournal.Entry> queueOf(Long tableId) {
+        return queues.get(Math.floorMod(tableId.hashCode(), workers));
+    }
+
+    private void finish(OrderAcceptJournal.Entry entry, OrderTicket ticket) {
+        try {
+            journal.complete(entry.ticketId());
+        } catch (UncheckedIOException e) {
+            // 재기동 후 다시 처리하더라도 order_tickets에서 걸러진다
+            log.warn("주문 접수 저널 완료 기록 실패 - 접수 번호: {}", entry.ticketId(), e);
+        }
+        accepted.remove(entry.ticketId());
+
+        lagTimer.record(Duration.between(entry.acceptedAt(), ticket.getCompletedAt()));
+        if (ticket.getStatus() == OrderTicketStatus.FAILED) {
+            failedCounter.increment();
+            log.info("접수 주문 실패 - 접수 번호: {}, 사유: {}", entry.ticketId(), ticket.getFailureReason());
+        }
+        hub.publish(entry.ticketId(), TICKET_EVENT, toResponse(ticket));
+    }
+
+    private static OrderTicket ticket(OrderAcceptJournal.Entry entry, OrderTicketStatus status, Long orderId,
+                                      String failureReason) {
+        return OrderTicket.builder()
+                .id(entry.ticketId())
+                .tableId(entry.tableId())
+                .status(status)
+                .orderId(orderId)
+                .failureReason(failureReason)
+                .acceptedAt(entry.acceptedAt())
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static OrderTicketResponse acceptedTicket(OrderAcceptJournal.Entry entry) {
+        return OrderTicketResponse.builder()
+                .ticketId(entry.ticketId())
+                .tableId(entry.tableId())
+                .status(OrderTicketStatus.ACCEPTED.name())
+                .acceptedAt(entry.acceptedAt())
+                .build();
+    }
+
+    private static OrderTicketResponse toResponse(OrderTicket ticket) {
+        return OrderTicketResponse.builder()
+                .ticketId(ticket.getId())
+                .tableId(ticket.getTableId())
+                .status(ticket.getStatus().name())
+                .orderId(ticket.getOrderId())
+                .failureReason(ticket.getFailureReason())
+                .acceptedAt(ticket.getAcceptedAt())
+                .completedAt(ticket.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,320 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.entity.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * 비동기 주문 접수 저널 (한 줄에 "CRC32C(16진수 8자리) JSON" 형식으로 접수 또는 처리 완료 하나)
+ *
+ * 접수는 fsync 한 뒤에야 고객에게 202를 돌려주므로, 서버가 죽어도 재기동 후 저널에 남은 접수를 다시 처리한다.
+ * 동시에 들어온 접수는 먼저 fsync 하는 스레드가 그때까지 기록된 줄을 함께 반영하고, 나머지는 그 결과를 기다린다.
+ * 처리 완료 줄은 fsync 하지 않는다 (유실되면 재처리 때 order_tickets로 이미 처리된 접수를 걸러낸다).
+ * 기동 시 체크섬이 맞지 않는 마지막 줄은 잘라 내고, 중간 줄은 건너뛴다.
+ * 남은 접수가 없으면 파일을 비우고, 남은 접수가 있는 채로 compact-bytes를 넘으면 남은 접수만 새 파일로 옮긴다.
+ */
+@Component
+@Slf4j
+public class OrderAcceptJournal {
+
+    private static final byte NEWLINE = '\n';
+    private static final int CHECKSUM_LENGTH = 8;
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final long compactBytes;
+
+    // 아래 필드는 this 잠금 안에서만 사용 (channel 교체는 syncLock도 함께 잡고)
+    private final Map<String, Entry> pending = new LinkedHashMap<>();
+    private FileChannel channel;
+
+    // fsync 묶음 처리 (this 잠금을 잡은 채 syncLock을 잡을 수는 있지만 반대는 안 된다)
+    private final Object syncLock = new Object();
+    private volatile long writtenPosition;
+    private long syncedPosition;
+
+    public OrderAcceptJournal(ObjectMapper objectMapper,
+                              @Value("${coffeeplz.order.accept.journal-path:data/order-accept.journal}") String path,
+                              @Value("${coffeeplz.order.accept.compact-bytes:4194304}") long compactBytes) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+        this.compactBytes = compactBytes;
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = openChannel();
+        truncateTornTail();
+
+        // 손상된 바이트가 있어도 읽을 수 있도록 문자열이 아닌 바이트 단위로 줄을 나눈다
+        byte[] content = Files.readAllBytes(path);
+        int offset = 0;
+        while (offset < content.length) {
+            int end = offset;
+            while (content[end] != NEWLINE) {
+                end++;
+            }
+            Line line = decode(Arrays.copyOfRange(content, offset, end));
+            if (line == null && end + 1 == content.length) {
+                log.warn("주문 접수 저널의 체크섬이 맞지 않는 마지막 줄 제거 - {}바이트", end + 1 - offset);
+                channel.truncate(offset);
+                break;
+            }
+            if (line == null) {
+                log.error("주문 접수 저널의 손상된 줄 건너뜀 - 위치: {}바이트", offset);
+            } else if (line.entry() != null) {
+                pending.put(line.entry().ticketId(), line.entry());
+            } else {
+                pending.remove(line.done());
+            }
+            offset = end + 1;
+        }
+        channel.position(channel.size());
+        writtenPosition = channel.size();
+        syncedPosition = channel.size();
+        if (!pending.isEmpty()) {
+            log.warn("처리하지 못한 주문 접수 {}건 - {}", pending.size(), path.toAbsolutePath());
+        }
+    }
+
+    /**
+     * 처리 대기 중인 접수 (접수 순)
+     */
+    public synchronized List<Entry> pending() {
+        return List.copyOf(pending.values());
+    }
+
+    /**
+     * 접수 기록 (디스크에 반영된 뒤 반환)
+     */
+    public void append(Entry entry) {
+        long end;
+        synchronized (this) {
+            end = write(new Line(entry, null));
+            pending.put(entry.ticketId(), entry);
+        }
+        try {
+            sync(end);
+        } catch (UncheckedIOException e) {
+            synchronized (this) {
+                pending.remove(entry.ticketId());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 처리 완료 기록 (남은 접수가 없으면 파일을 비움)
+     */
+    public synchronized void complete(String ticketId) {
+        if (pending.remove(ticketId) == null) {
+            return;
+        }
+        try {
+            if (pending.isEmpty()) {
+                synchronized (syncLock) {
+                    channel.truncate(0);
+                    writtenPosition = 0;
+                    syncedPosition = 0;
+                }
+                return;
+            }
+            write(new Line(null, ticketId));
+            if (channel.size() > compactBytes) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 접수 저널 기록 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * 줄 하나 기록 (this 잠금 안에서 호출, 기록 후 파일 위치 반환)
+     */
+    private long write(Line line) {
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(encode(line));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            writtenPosition = channel.position();
+            return writtenPosition;
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 접수 저널 기록 실패", e);
+        }
+    }
+
+    /**
+     * end 위치까지 디스크에 반영 (다른 스레드의 fsync가 이미 포함했으면 바로 반환)
+     */
+    private void sync(long end) {
+        synchronized (syncLock) {
+            if (syncedPosition >= end) {
+                return;
+            }
+            long target = writtenPosition;
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("주문 접수 저널 기록 실패", e);
+            }
+            syncedPosition = target;
+        }
+    }
+
+    /**
+     * 남은 접수만 임시 파일에 쓰고 원래 파일과 바꾼다
+     */
+    private void compact() throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            for (Entry entry : pending.values()) {
+                buffer.write(encode(new Line(entry, null)));
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            out.force(true);
+        }
+        synchronized (syncLock) {
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = openChannel();
+            channel.position(channel.size());
+            writtenPosition = channel.size();
+            syncedPosition = channel.size();
+        }
+        log.info("주문 접수 저널 정리 - 남은 접수: {}건, 크기: {}바이트", pending.size(), channel.size());
+    }
+
+    private FileChannel openChannel() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 마지막 줄바꿈 이후(기록 도중 죽어서 남은 조각)를 잘라 낸다 (그 접수는 202를 받지 못했다)
+     */
+    private void truncateTornTail() throws IOException {
+        long size = channel.size();
+        long end = size;
+        ByteBuffer one = ByteBuffer.allocate(1);
+        while (end > 0) {
+            one.clear();
+            channel.read(one, end - 1);
+            if (one.get(0) == NEWLINE) {
+                break;
+            }
+            end--;
+        }
+        if (end < size) {
+            log.warn("주문 접수 저널의 끝나지 않은 마지막 줄 제거 - {}바이트", size - end);
+            channel.truncate(end);
+        }
+    }
+
+    private byte[] encode(Line line) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(line);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length + CHECKSUM_LENGTH + 2);
+        buffer.write(String.format("%08x ", checksum(json)).getBytes(StandardCharsets.US_ASCII));
+        buffer.write(json);
+        buffer.write(NEWLINE);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 저널 한 줄 해석 (줄바꿈 제외, 체크섬이 맞지 않으면 null)
+     */
+    private Line decode(byte[] bytes) {
+        if (bytes.length <= CHECKSUM_LENGTH || bytes[CHECKSUM_LENGTH] != ' ') {
+            return null;
+        }
+        byte[] json = Arrays.copyOfRange(bytes, CHECKSUM_LENGTH + 1, bytes.length);
+        try {
+            String expected = new String(bytes, 0, CHECKSUM_LENGTH, StandardCharsets.US_ASCII);
+            if (Long.parseLong(expected, 16) != checksum(json)) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, Line.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("주문 접수 저널을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * 접수 한 건 (접수 시점의 장바구니 사본, 담을 때의 단가 유지)
+     */
+    record Entry(String ticketId, Long tableId, String customerNotes, List<Item> items, LocalDateTime acceptedAt) {
+
+        static Entry of(String ticketId, TableCart cart, String customerNotes, LocalDateTime acceptedAt) {
+            List<Item> items = cart.getItems().stream()
+                    .map(item -> new Item(item.getMenuId(), item.getMenuName(), item.getQuantity(),
+                            item.getUnitPrice(), item.getNotes()))
+                    .toList();
+            return new Entry(ticketId, cart.getTableId(), customerNotes, items, acceptedAt);
+        }
+
+        TableCart toCart() {
+            List<TableCart.Item> cartItems = items.stream()
+                    .map(item -> new TableCart.Item(null, item.menuId(), item.menuName(), item.quantity(),
+                            item.unitPrice(), item.notes()))
+                    .toList();
+            return new TableCart(null, tableId, cartItems, acceptedAt, acceptedAt);
+        }
+    }
+
+    record Item(Long menuId, String menuName, int quantity, Money unitPrice, String notes) {
+    }
+
+    /**
+     * 저널 한 줄 (접수면 entry, 처리 완료면 done에 접수 번호)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record Line(Entry entry, String done) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.OrderArchiveResponse;
+import com.coffeeplz.repository.OrderArchiveRepository;
+import com.coffeeplz.repository.OrderItemOptionRepository;
+import com.coffeeplz.repository.OrderItemRepository;
+import com.coffeeplz.repository.OrderRepository;
+import com.coffeeplz.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오래된 완료/취소 주문 보관
+ *
+ * 보관 기간(retention-days)보다 먼저 생성되고 그 뒤로 변경이 없는 완료/취소 주문을
+ * 오래된 순서대로 몇 건씩 골라 주문/아이템/옵션/결제를 *_archive 테이블로 복사한 뒤 운영 테이블에서 지운다.
+ * 배치마다 별도 트랜잭션으로 커밋하고 배치 사이에는 잠시 쉬어 주문 트랜잭션과 잠금 경쟁을 줄인다.
+ */
+@Component
+@Slf4j
+public class OrderArchiver {
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderItemOptionRepository orderItemOptionRepository;
+    private final PaymentRepository paymentRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final TransactionTemplate batchTransaction;
+    private final Duration retention;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatchesPerRun;
+    private final Counter archivedCounter;
+    private final Timer runTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderArchiver(OrderRepository orderRepository,
+                         OrderItemRepository orderItemRepository,
+                         OrderItemOptionRepository orderItemOptionRepository,
+                         PaymentRepository paymentRepository,
+                         OrderArchiveRepository orderArchiveRepository,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${coffeeplz.archive.retention-days:90}") long retentionDays,
+                         @Value("${coffeeplz.archive.batch-size:200}") int batchSize,
+                         @Value("${coffeeplz.archive.pause-ms:200}") long pauseMillis,
+                         @Value("${coffeeplz.archive.max-batches-per-run:50}") int maxBatchesPerRun) {
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("주문 보관 기간은 1일 이상이어야 합니다");
+        }
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.orderItemOptionRepository = orderItemOptionRepository;
+        this.paymentRepository = paymentRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.archivedCounter = Counter.builder("coffeeplz.order.archived")
+                .description("보관 테이블로 옮긴 주문 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("coffeeplz.order.archive.duration")
+                .description("주문 보관 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이 시각 이후에 생성된 주문은 아직 운영 테이블에만 있다
+     */
+    public LocalDateTime horizon() {
+        return LocalDateTime.now().minus(retention);
+    }
+
+    @Scheduled(cron = "${coffeeplz.archive.cron:0 30 4 * * *}", zone = "${coffeeplz.stats.zone:Asia/Seoul}")
+    public void scheduledArchive() {
+        archive();
+    }
+
+    /**
+     * 보관 대상 주문 이동 (한 번에 최대 max-batches-per-run 배치, 나머지는 다음 실행에서)
+     */
+    public OrderArchiveResponse archive() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("주문 보관이 이미 진행 중입니다");
+            return OrderArchiveResponse.builder().build();
+        }
+
+        long started = System.nanoTime();
+        LocalDateTime cutoff = horizon();
+        int archived = 0;
+        int batches = 0;
+        try {
+            while (batches < maxBatchesPerRun) {
+                Integer moved = batchTransaction.execute(status -> archiveBatch(cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived += moved;
+                batches++;
+                if (moved < batchSize || !pause()) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        archivedCounter.increment(archived);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (archived > 0) {
+            log.info("주문 보관 - 주문: {}건, 배치: {}개, 기준: {}, 소요: {}ms", archived, batches, cutoff, elapsedMillis);
+        }
+        return OrderArchiveResponse.builder()
+                .archivedOrders(archived)
+                .batches(batches)
+                .cutoff(cutoff)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> orderIds = orderRepository.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        orderArchiveRepository.copyOrders(orderIds, now);
+        orderArchiveRepository.copyOrderItems(orderIds);
+        orderArchiveRepository.copyOrderItemOptions(orderIds);
+        orderArchiveRepository.copyPayments(orderIds);
+
+        // 자식 테이블부터 삭제 (운영 테이블은 외래 키 유지)
+        orderItemOptionRepository.deleteByOrderIdIn(orderIds);
+        orderItemRepository.deleteByOrderIdIn(orderIds);
+        paymentRepository.deleteByOrderIdIn(orderIds);
+        return orderRepository.deleteByIdIn(orderIds);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.entity.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 관리자 주문 목록 커서 (마지막 주문의 생성 시각과 ID를 URL-safe Base64로 감싼 값)
+ */
+record OrderCursor(LocalDateTime createdAt, Long orderId) {
+
+    private static final String SEPARATOR = "|";
+
+    // OrderSpecifications.NEWEST_FIRST와 같은 순서 (운영/보관 결과를 합칠 때 사용)
+    static final Comparator<OrderCursor> NEWEST_FIRST =
+            Comparator.comparing(OrderCursor::createdAt).thenComparing(OrderCursor::orderId).reversed();
+
+    static OrderCursor after(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,377 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.OrderEventResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 발행한 주문 이벤트의 로컬 추가 전용 로그 (세그먼트 파일마다 한 줄에 outbox ID와 이벤트 JSON 하나)
+ *
+ * 릴레이가 outbox를 발행 완료로 표시하기 전에 기록하고 fsync 하므로, 그 사이에 죽으면 재기동 후 같은 이벤트가 다시 온다.
+ * 이벤트 번호(sequence)는 기록할 때 1씩 늘려 붙이므로 발행 순서와 같다. 최근 기록한 outbox ID를 기억해 두었다가
+ * 다시 온 이벤트는 기록하지 않고 처음 붙인 번호로 돌려준다.
+ * 세그먼트는 segment-bytes를 넘으면 새 파일로 넘어가고, retention-hours가 지난 세그먼트는 지운다.
+ * 이벤트 번호별 파일 위치를 메모리에 두어, SSE 재연결 시 놓친 이벤트를 기록 잠금 밖에서 필요한 부분만 읽는다.
+ */
+@Component
+@Slf4j
+public class OrderEventLog {
+
+    private static final byte NEWLINE = '\n';
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long segmentBytes;
+    private final Duration retention;
+    private final int dedupeWindow;
+
+    // 아래 필드는 this 잠금 안에서만 사용 (읽기는 Segment.View로 복사해 간다)
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<Long, Long> recentSequences = new LinkedHashMap<>();
+    private FileChannel channel;
+    private long lastSequence;
+
+    public OrderEventLog(ObjectMapper objectMapper,
+                         @Value("${coffeeplz.outbox.log-dir:data/order-events}") String directory,
+                         @Value("${coffeeplz.outbox.log-segment-bytes:4194304}") long segmentBytes,
+                         @Value("${coffeeplz.outbox.log-retention-hours:24}") long retentionHours,
+                         @Value("${coffeeplz.outbox.log-dedupe-window:10000}") int dedupeWindow) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.segmentBytes = segmentBytes;
+        this.retention = Duration.ofHours(retentionHours);
+        this.dedupeWindow = dedupeWindow;
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (int i = 0; i < files.size(); i++) {
+            boolean active = i == files.size() - 1;
+            segments.add(load(files.get(i), active));
+        }
+        if (segments.isEmpty()) {
+            startSegment(1);
+        } else {
+            Segment active = segments.get(segments.size() - 1);
+            lastSequence = active.firstSequence + active.count - 1;
+            channel = openChannel(active.path);
+            channel.position(active.length);
+        }
+        loadRecentSequences();
+        log.info("주문 이벤트 로그 열기 - {}, 세그먼트: {}개, 마지막 이벤트: {}",
+                directory.toAbsolutePath(), segments.size(), lastSequence);
+    }
+
+    /**
+     * 이벤트에 번호를 붙여 순서대로 추가하고 디스크에 반영 (이미 기록한 outbox 이벤트는 처음 붙인 번호로 돌려줌)
+     */
+    public synchronized List<OrderEventResponse> append(List<Entry> entries) {
+        Segment active = segments.get(segments.size() - 1);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        List<OrderEventResponse> appended = new ArrayList<>(entries.size());
+        List<Entry> written = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        for (Entry entry : entries) {
+            Long sequence = recentSequences.get(entry.outboxId());
+            if (sequence != null) {
+                appended.add(entry.event().toBuilder().sequence(sequence).build());
+                continue;
+            }
+            Entry numbered = new Entry(entry.outboxId(),
+                    entry.event().toBuilder().sequence(lastSequence + written.size() + 1).build());
+            offsets.add(active.length + buffer.size());
+            try {
+                buffer.write(objectMapper.writeValueAsBytes(numbered));
+            } catch (IOException e) {
+                throw new UncheckedIOException("주문 이벤트 직렬화 실패", e);
+            }
+            buffer.write(NEWLINE);
+            written.add(numbered);
+            appended.add(numbered.event());
+        }
+        if (written.isEmpty()) {
+            return appended;
+        }
+
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            discardPartialWrite(active);
+            throw new UncheckedIOException("주문 이벤트 로그 기록 실패", e);
+        }
+
+        offsets.forEach(active::addOffset);
+        active.length += buffer.size();
+        for (Entry entry : written) {
+            lastSequence = entry.event().getSequence();
+            remember(entry.outboxId(), lastSequence);
+        }
+        if (active.length >= segmentBytes) {
+            rotate();
+        }
+        return appended;
+    }
+
+    /**
+     * sequence 이벤트 뒤에 기록된 이벤트 중 최근 limit건 (로그에 남아 있지 않은 번호면 빈 목록)
+     */
+    public List<OrderEventResponse> readAfter(long sequence, int limit) {
+        List<Segment.View> views;
+        long last;
+        synchronized (this) {
+            views = segments.stream().map(Segment::view).toList();
+            last = lastSequence;
+        }
+        long first = views.get(0).firstSequence();
+        if (sequence < first - 1 || sequence >= last || limit <= 0) {
+            return List.of();
+        }
+
+        long from = Math.max(sequence + 1, last - limit + 1);
+        List<OrderEventResponse> events = new ArrayList<>();
+        try {
+            for (Segment.View view : views) {
+                long end = view.firstSequence() + view.count();
+                if (end <= from) {
+                    continue;
+                }
+                long start = view.offsets()[(int) (Math.max(from, view.firstSequence()) - view.firstSequence())];
+                readEvents(view.path(), start, view.length(), events);
+            }
+        } catch (NoSuchFileException e) {
+            // 읽는 사이 보관 기간이 지나 지워진 세그먼트
+            return List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 이벤트 로그 읽기 실패", e);
+        }
+        return events;
+    }
+
+    /**
+     * 보관 기간이 지난 세그먼트 삭제 (쓰고 있는 세그먼트는 남긴다)
+     */
+    @Scheduled(cron = "${coffeeplz.outbox.cleanup-cron:0 10 * * * *}")
+    public synchronized void purge() {
+        FileTime cutoff = FileTime.from(Instant.now().minus(retention));
+        int deleted = 0;
+        Iterator<Segment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            Segment segment = iterator.next();
+            if (!iterator.hasNext()) {
+                break;
+            }
+            try {
+                if (Files.getLastModifiedTime(segment.path).compareTo(cutoff) >= 0) {
+                    break;
+                }
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("주문 이벤트 로그 세그먼트 삭제 실패 - {}", segment.path, e);
+                break;
+            }
+            iterator.remove();
+            deleted++;
+        }
+        if (deleted > 0) {
+            log.info("주문 이벤트 로그 세그먼트 정리 - {}개", deleted);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * 세그먼트의 줄 위치를 읽어 들임 (쓰고 있던 세그먼트는 기록 도중 죽어서 남은 마지막 조각을 잘라 낸다)
+     */
+    private Segment load(Path path, boolean active) throws IOException {
+        String name = path.getFileName().toString();
+        Segment segment = new Segment(path, Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())));
+        byte[] content = Files.readAllBytes(path);
+        int lineStart = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] == NEWLINE) {
+                segment.addOffset(lineStart);
+                lineStart = i + 1;
+            }
+        }
+        segment.length = lineStart;
+        if (lineStart < content.length) {
+            if (!active) {
+                throw new IllegalStateException("주문 이벤트 로그 세그먼트가 손상되었습니다: " + path);
+            }
+            log.warn("주문 이벤트 로그의 끝나지 않은 마지막 줄 제거 - {}바이트", content.length - lineStart);
+            try (FileChannel truncating = openChannel(path)) {
+                truncating.truncate(lineStart);
+            }
+        }
+        return segment;
+    }
+
+    /**
+     * 최근 dedupe-window건의 outbox ID와 이벤트 번호를 최신 세그먼트부터 읽어 복원
+     */
+    private void loadRecentSequences() throws IOException {
+        List<Entry> recent = new ArrayList<>();
+        for (int i = segments.size() - 1; i >= 0 && recent.size() < dedupeWindow; i--) {
+            Segment segment = segments.get(i);
+            List<Entry> entries = new ArrayList<>();
+            readEntries(segment.path, 0, segment.length, entries);
+            recent.addAll(0, entries.subList(Math.max(0, entries.size() - (dedupeWindow - recent.size())), entries.size()));
+        }
+        recent.forEach(entry -> remember(entry.outboxId(), entry.event().getSequence()));
+    }
+
+    private void rotate() {
+        try {
+            channel.close();
+            startSegment(lastSequence + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 이벤트 로그 세그먼트 전환 실패", e);
+        }
+    }
+
+    private void startSegment(long firstSequence) throws IOException {
+        Segment segment = new Segment(directory.resolve(String.format("%020d", firstSequence) + SEGMENT_SUFFIX),
+                firstSequence);
+        channel = openChannel(segment.path);
+        channel.truncate(0);
+        segments.add(segment);
+        lastSequence = firstSequence - 1;
+    }
+
+    /**
+     * 기록에 실패한 일부 바이트를 잘라 다음 기록이 깨진 줄 뒤에 붙지 않게 한다
+     */
+    private void discardPartialWrite(Segment active) {
+        try {
+            channel.truncate(active.length);
+            channel.position(active.length);
+        } catch (IOException e) {
+            log.error("주문 이벤트 로그 복구 실패 - {}", active.path, e);
+        }
+    }
+
+    private void readEvents(Path path, long start, long end, List<OrderEventResponse> events) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        readEntries(path, start, end, entries);
+        entries.forEach(entry -> events.add(entry.event()));
+    }
+
+    private void readEntries(Path path, long start, long end, List<Entry> entries) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate((int) (end - start));
+        try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (bytes.hasRemaining() && reader.read(bytes, start + bytes.position()) >= 0) {
+                // 끝까지 읽는다
+            }
+        }
+        byte[] content = bytes.array();
+        int lineStart = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] == NEWLINE) {
+                entries.add(parse(Arrays.copyOfRange(content, lineStart, i), path));
+                lineStart = i + 1;
+            }
+        }
+    }
+
+    private void remember(Long outboxId, Long sequence) {
+        recentSequences.put(outboxId, sequence);
+        if (recentSequences.size() > dedupeWindow) {
+            recentSequences.remove(recentSequences.keySet().iterator().next());
+        }
+    }
+
+    private Entry parse(byte[] line, Path path) {
+        try {
+            return objectMapper.readValue(line, Entry.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("주문 이벤트 로그를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private static FileChannel openChannel(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 로그 한 줄 (outbox ID와 번호가 붙은 이벤트, 기록 전에는 이벤트 번호가 비어 있다)
+     */
+    record Entry(Long outboxId, OrderEventResponse event) {
+    }
+
+    /**
+     * 세그먼트 파일 하나와 줄마다의 시작 위치 (firstSequence부터 순서대로)
+     */
+    private static final class Segment {
+        private final Path path;
+        private final long firstSequence;
+        private long[] offsets = new long[64];
+        private int count;
+        private long length;
+
+        private Segment(Path path, long firstSequence) {
+            this.path = path;
+            this.firstSequence = firstSequence;
+        }
+
+        private void addOffset(long offset) {
+            if (count == offsets.length) {
+                // 읽는 쪽이 들고 있는 배열은 그대로 두고 새 배열로 바꾼다
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = offset;
+        }
+
+        private View view() {
+            return new View(path, firstSequence, offsets, count, length);
+        }
+
+        /**
+         * 잠금 밖에서 읽기 위한 사본 (count 이전의 위치는 바뀌지 않는다)
+         */
+        private record View(Path path, long firstSequence, long[] offsets, int count, long length) {
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.OrderEventResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * 주문 이벤트 SSE 스트림 (관리자/고객 화면용)
+ *
+ * 릴레이가 발행한 주문 이벤트를 SSE id(sequence)와 함께 보낸다.
+ * 재연결하면서 Last-Event-ID를 보내면 그 뒤에 놓친 이벤트를 이벤트 로그에서 읽어 replay 이벤트로 먼저 보낸다.
+ */
+@Component
+public class OrderEventStream {
+
+    static final String REPLAY_EVENT = "replay";
+    static final String ORDER_EVENT = "order";
+
+    private static final String HUB_KEY = "orders";
+
+    private final OrderEventLog orderEventLog;
+    private final SseHub<String> hub;
+    private final int replayLimit;
+
+    public OrderEventStream(OrderEventLog orderEventLog,
+                            MeterRegistry meterRegistry,
+                            @Value("${coffeeplz.order-events.sse.buffer-size:128}") int bufferSize,
+                            @Value("${coffeeplz.order-events.sse.timeout-minutes:60}") long timeoutMinutes,
+                            @Value("${coffeeplz.order-events.sse.send-threads:2}") int sendThreads,
+                            @Value("${coffeeplz.order-events.sse.send-timeout-ms:10000}") long sendTimeoutMillis,
+                            @Value("${coffeeplz.order-events.sse.replay-limit:500}") int replayLimit) {
+        this.orderEventLog = orderEventLog;
+        this.replayLimit = replayLimit;
+        this.hub = new SseHub<>("order-events", bufferSize, Duration.ofMinutes(timeoutMinutes), sendThreads,
+                Duration.ofMillis(sendTimeoutMillis), meterRegistry);
+    }
+
+    /**
+     * 구독 (lastEventId가 있으면 놓친 이벤트를 먼저 보냄, replay와 실시간 이벤트가 겹칠 수 있어 sequence로 걸러야 한다)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return hub.subscribe(HUB_KEY, null, null);
+        }
+        long sequence = parseSequence(lastEventId);
+        return hub.subscribe(HUB_KEY, REPLAY_EVENT, () -> orderEventLog.readAfter(sequence, replayLimit));
+    }
+
+    @EventListener
+    public void onOrderEvent(OrderEventResponse event) {
+        hub.publish(HUB_KEY, ORDER_EVENT, String.valueOf(event.getSequence()), event);
+    }
+
+    @Scheduled(fixedDelayString = "${coffeeplz.order-events.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        hub.heartbeat();
+    }
+
+    @PreDestroy
+    public void close() {
+        hub.close();
+    }
+
+    private static long parseSequence(String lastEventId) {
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 Last-Event-ID입니다");
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.OrderResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장바구니 주문 묶음 처리 (점심 시간처럼 주문이 몰릴 때의 그룹 커밋)
+ *
+ * coffeeplz.order.ingest.enabled=true이면 동시에 들어온 주문 요청을 최대 max-wait-ms 동안, 최대 max-batch-size건까지 모아
+ * 전용 스레드가 한 트랜잭션(커넥션 하나, 커밋 한 번)으로 생성하고 각 요청에 결과를 돌려준다.
+ * insert는 Hibernate JDBC 배치로 묶음 전체가 엔티티별로 합쳐져 전송된다.
+ * 묶음 안에서 한 건이라도 실패하면 묶음을 롤백하고 각 요청을 개별 트랜잭션으로 다시 처리해 요청마다 정확한 결과를 돌려준다.
+ * 같은 테이블의 요청은 같은 장바구니를 두 번 주문하지 않도록 다음 묶음으로 넘긴다.
+ * timeout-ms 안에 처리가 시작되지 않은 요청은 취소하고 건너뛰어, 실패 응답을 받은 주문이 나중에 만들어지지 않게 한다
+ * (이미 처리 중이면 결과를 기다린다).
+ * 꺼져 있거나 대기열이 가득 차면 요청 스레드에서 바로 처리한다.
+ */
+@Component
+@Slf4j
+public class OrderIngest {
+
+    private final OrderService orderService;
+    private final TransactionTemplate batchTransaction;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long timeoutMillis;
+    private final BlockingQueue<Request> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter fallbackCounter;
+
+    // 같은 테이블 요청이라 미룬 요청 (writer 스레드에서만 사용)
+    private final Deque<Request> carried = new ArrayDeque<>();
+
+    private volatile Thread writer;
+
+    public OrderIngest(OrderService orderService,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${coffeeplz.order.ingest.enabled:false}") boolean enabled,
+                       @Value("${coffeeplz.order.ingest.max-batch-size:32}") int maxBatchSize,
+                       @Value("${coffeeplz.order.ingest.max-wait-ms:5}") long maxWaitMillis,
+                       @Value("${coffeeplz.order.ingest.queue-capacity:1000}") int queueCapacity,
+                       @Value("${coffeeplz.order.ingest.timeout-ms:10000}") long timeoutMillis) {
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.timeoutMillis = timeoutMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.batchSizeSummary = DistributionSummary.builder("coffeeplz.order.ingest.batch.size")
+                .description("한 트랜잭션으로 생성한 주문 수")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("coffeeplz.order.ingest.fallback")
+                .description("실패해 개별 트랜잭션으로 다시 처리한 묶음 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::run, "order-ingest");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+        log.info("주문 묶음 처리 사용 - 최대 {}건 / {}ms", maxBatchSize, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = writer;
+        writer = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * 장바구니에서 주문 생성 (묶음 처리가 켜져 있으면 묶음 트랜잭션이 끝날 때까지 기다림)
+     */
+    public OrderResponse createOrderFromCart(Long tableId, String customerNotes) {
+        Request request = new Request(tableId, customerNotes);
+        if (writer == null || !queue.offer(request)) {
+            return orderService.createOrderFromCart(tableId, customerNotes);
+        }
+
+        try {
+            return request.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw failure(e);
+        } catch (TimeoutException e) {
+            if (request.state.compareAndSet(Request.WAITING, Request.CANCELLED)) {
+                throw new IllegalStateException("주문 처리 대기 시간이 초과되었습니다");
+            }
+            // 이미 트랜잭션에 들어갔으면 커밋 여부가 정해질 때까지 기다린다
+            return awaitClaimed(request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.state.compareAndSet(Request.WAITING, Request.CANCELLED);
+            throw new IllegalStateException("주문 처리가 중단되었습니다");
+        }
+    }
+
+    private OrderResponse awaitClaimed(Request request) {
+        try {
+            return request.result.get();
+        } catch (ExecutionException e) {
+            throw failure(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 처리가 중단되었습니다");
+        }
+    }
+
+    private static RuntimeException failure(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause
+                ? cause
+                : new IllegalStateException("주문 생성에 실패했습니다", e.getCause());
+    }
+
+    private void run() {
+        try {
+            while (writer != null) {
+                try {
+                    write(collect());
+                } catch (RuntimeException e) {
+                    log.error("주문 묶음 처리 스레드 오류", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 종료 시 남은 요청은 기다리지 않게 실패 처리
+            Request request;
+            while ((request = carried.poll()) != null || (request = queue.poll()) != null) {
+                request.result.completeExceptionally(new IllegalStateException("서버가 종료 중입니다"));
+            }
+        }
+    }
+
+    /**
+     * 첫 요청이 오면 max-wait 동안 최대 max-batch-size건까지 모은다 (같은 테이블의 두 번째 요청은 다음 묶음으로)
+     */
+    private List<Request> collect() throws InterruptedException {
+        List<Request> batch = new ArrayList<>();
+        List<Request> deferred = new ArrayList<>();
+        Set<Long> tables = new HashSet<>();
+
+        Request first = carried.isEmpty() ? queue.take() : carried.pollFirst();
+        batch.add(first);
+        tables.add(first.tableId);
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            Request next = !carried.isEmpty()
+                    ? carried.pollFirst()
+                    : queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            if (tables.add(next.tableId)) {
+                batch.add(next);
+            } else {
+                deferred.add(next);
+            }
+        }
+
+        // 미룬 요청은 도착 순서를 유지한 채 다음 묶음의 앞으로
+        for (int i = deferred.size() - 1; i >= 0; i--) {
+            carried.addFirst(deferred.get(i));
+        }
+        return batch;
+    }
+
+    private void write(List<Request> batch) {
+        // 대기 시간이 지나 취소된 요청은 처리하지 않는다
+        batch.removeIf(request -> !request.state.compareAndSet(Request.WAITING, Request.CLAIMED));
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<OrderResponse> responses;
+        try {
+            responses = batchTransaction.execute(status -> batch.stream()
+                    .map(request -> orderService.createOrderFromCart(request.tableId, request.customerNotes))
+                    .toList());
+        } catch (RuntimeException e) {
+            fallbackCounter.increment();
+            log.info("주문 묶음 {}건 실패, 개별 처리로 재시도: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeAlone);
+            return;
+        }
+
+        batchSizeSummary.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(responses.get(i));
+        }
+    }
+
+    private void writeAlone(Request request) {
+        try {
+            request.result.complete(orderService.createOrderFromCart(request.tableId, request.customerNotes));
+        } catch (RuntimeException e) {
+            request.result.completeExceptionally(e);
+        }
+    }
+
+    private static final class Request {
+        private static final int WAITING = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final Long tableId;
+        private final String customerNotes;
+        private final CompletableFuture<OrderResponse> result = new CompletableFuture<>();
+
+        private Request(Long tableId, String customerNotes) {
+            this.tableId = tableId;
+            this.customerNotes = customerNotes;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.entity.Order;
+import com.coffeeplz.entity.OrderEventType;
+import com.coffeeplz.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성/상태 전이를 메모리 집계(주방 보드, 상태별 개수, 오늘 통계)와 주문 이벤트 outbox에 전달
+ *
+ * 각 집계는 현재 트랜잭션이 커밋된 뒤에 반영하고, outbox 이벤트는 현재 트랜잭션에 함께 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+class OrderLifecycle {
+
+    private final KitchenBoard kitchenBoard;
+    private final OrderStatusCounters orderStatusCounters;
+    private final DailyStats dailyStats;
+    private final OrderOutboxRelay orderOutboxRelay;
+
+    void placed(Order order, TableCart cart) {
+        kitchenBoard.orderPlaced(order, cart);
+        orderStatusCounters.orderPlaced(order.getStatus());
+        dailyStats.orderPlaced(order);
+        orderOutboxRelay.record(order, OrderEventType.PLACED, null);
+    }
+
+    void statusChanged(Order order, OrderStatus previousStatus) {
+        kitchenBoard.statusChanged(order);
+        orderStatusCounters.transitioned(previousStatus, order.getStatus());
+        dailyStats.orderTransitioned(order, previousStatus);
+        if (previousStatus != order.getStatus()) {
+            orderOutboxRelay.record(order, OrderEventType.STATUS_CHANGED, previousStatus);
+        }
+    }
+}
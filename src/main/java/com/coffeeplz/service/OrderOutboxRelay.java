@@ -0,0 +1,188 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.OrderEventResponse;
+import com.coffeeplz.entity.Order;
+import com.coffeeplz.entity.OrderEventType;
+import com.coffeeplz.entity.OrderOutboxEvent;
+import com.coffeeplz.entity.OrderStatus;
+import com.coffeeplz.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 이벤트 outbox 기록과 릴레이
+ *
+ * 주문 생성/상태 변경 트랜잭션 안에서 order_outbox에 이벤트를 기록하고, 커밋되면 릴레이가 기록 순으로 읽어
+ * 로컬 이벤트 로그(OrderEventLog)에 먼저 남긴 뒤 애플리케이션 이벤트(OrderEventResponse)로 발행하고 발행 완료로 표시한다.
+ * 릴레이는 한 번에 한 스레드만 돌기 때문에 같은 주문의 이벤트는 기록 순서대로 나간다.
+ * 이벤트 번호(sequence)는 이벤트 로그에 추가할 때 붙이므로 발행 순서대로 늘어난다 (outbox ID는 커밋 순서와 다를 수 있다).
+ * 표시 전에 죽으면 재기동 후 같은 번호로 다시 발행하므로 구독자는 sequence로 중복을 걸러야 한다 (최소 한 번 전달).
+ */
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventLog orderEventLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+    private final TransactionTemplate relayTransaction;
+    private final int batchSize;
+    private final Duration retention;
+    private final boolean relayOnCommit;
+    private final Counter relayedCounter;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderEventLog orderEventLog,
+                            ApplicationEventPublisher eventPublisher,
+                            @Qualifier("applicationTaskExecutor") Executor executor,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${coffeeplz.outbox.batch-size:100}") int batchSize,
+                            @Value("${coffeeplz.outbox.retention-hours:24}") long retentionHours,
+                            @Value("${coffeeplz.outbox.relay-on-commit:true}") boolean relayOnCommit) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderEventLog = orderEventLog;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+        this.relayOnCommit = relayOnCommit;
+
+        this.relayTransaction = new TransactionTemplate(transactionManager);
+        this.relayTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.relayedCounter = Counter.builder("coffeeplz.order.outbox.relayed")
+                .description("발행한 주문 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션에 주문 이벤트 기록 (relay-on-commit이면 커밋 직후 릴레이 요청, 아니면 다음 폴링에서 발행)
+     */
+    void record(Order order, OrderEventType type, OrderStatus previousStatus) {
+        orderOutboxRepository.save(OrderOutboxEvent.builder()
+                .orderId(order.getId())
+                .tableId(order.getTable().getId())
+                .eventType(type)
+                .previousStatus(previousStatus)
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
+
+        if (relayOnCommit) {
+            TransactionHooks.afterCommit(() -> executor.execute(this::relay));
+        }
+    }
+
+    /**
+     * 기동 시 이전 실행에서 발행하지 못한 이벤트 발행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        relay();
+    }
+
+    /**
+     * 커밋 직후 요청이 실패했거나 누락된 경우를 위한 주기적 릴레이
+     */
+    @Scheduled(fixedDelayString = "${coffeeplz.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        relay();
+    }
+
+    /**
+     * 발행 대기 이벤트가 없을 때까지 릴레이 (다른 스레드가 릴레이 중이면 그 스레드가 한 번 더 돈다)
+     */
+    public void relay() {
+        requested.set(true);
+        while (requested.get() && running.compareAndSet(false, true)) {
+            try {
+                requested.set(false);
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                } while (relayed == batchSize);
+            } catch (RuntimeException e) {
+                log.warn("주문 이벤트 릴레이 실패 - 다음 주기에 재시도: {}", e.getMessage());
+                return;
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    /**
+     * 발행 후 보관 기간이 지난 outbox 행 삭제
+     */
+    @Scheduled(cron = "${coffeeplz.outbox.cleanup-cron:0 10 * * * *}")
+    public void purge() {
+        Integer deleted = relayTransaction.execute(status ->
+                orderOutboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("발행된 주문 이벤트 정리 - {}건", deleted);
+        }
+    }
+
+    private int relayBatch() {
+        List<OrderEventLog.Entry> pending = relayTransaction.execute(status ->
+                orderOutboxRepository.findUnpublished(PageRequest.of(0, batchSize)).stream()
+                        .map(outbox -> new OrderEventLog.Entry(outbox.getId(), toEvent(outbox)))
+                        .toList());
+        if (pending == null || pending.isEmpty()) {
+            return 0;
+        }
+
+        List<OrderEventResponse> events = orderEventLog.append(pending);
+        for (OrderEventResponse event : events) {
+            try {
+                eventPublisher.publishEvent(event);
+            } catch (RuntimeException e) {
+                // 구독자 하나의 실패로 뒤 이벤트가 막히지 않게 한다
+                log.warn("주문 이벤트 구독자 처리 실패 - 이벤트: {}, 주문ID: {}", event.getSequence(), event.getOrderId(), e);
+            }
+        }
+
+        List<Long> ids = pending.stream().map(OrderEventLog.Entry::outboxId).toList();
+        relayTransaction.executeWithoutResult(status -> orderOutboxRepository.markPublished(ids, LocalDateTime.now()));
+        relayedCounter.increment(events.size());
+        return pending.size();
+    }
+
+    /**
+     * outbox 행을 이벤트로 (sequence는 이벤트 로그에서 붙인다)
+     */
+    private static OrderEventResponse toEvent(OrderOutboxEvent outbox) {
+        return OrderEventResponse.builder()
+                .type(outbox.getEventType())
+                .orderId(outbox.getOrderId())
+                .tableId(outbox.getTableId())
+                .previousStatus(outbox.getPreviousStatus() != null ? outbox.getPreviousStatus().name() : null)
+                .status(outbox.getStatus().name())
+                .totalAmount(outbox.getTotalAmount())
+                .occurredAt(outbox.getOccurredAt())
+                .build();
+    }
+}
@@ -5,14 +5,20 @@ import com.coffeeplz.entity.*;
 import com.coffeeplz.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,9 +28,21 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final CartRepository cartRepository;
+    private final MenuRepository menuRepository;
     private final TableRepository tableRepository;
     private final CartService cartService;
+    private final PopularMenuTracker popularMenuTracker;
+    private final StockReservations stockReservations;
+    private final KitchenBoard kitchenBoard;
+    private final OrderStatusCounters orderStatusCounters;
+    private final DailyStats dailyStats;
+    private final OrderLifecycle orderLifecycle;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderArchiver orderArchiver;
+    private final OrderEventStream orderEventStream;
+    private final MenuCatalog menuCatalog;
+    private final MenuOptionRepository menuOptionRepository;
+    private final OrderItemOptionRepository orderItemOptionRepository;
 
     /**
      * 장바구니에서 주문 생성
@@ -33,60 +51,124 @@ public class OrderService {
     public OrderResponse createOrderFromCart(Long tableId, String customerNotes) {
         log.info("주문 생성 시작 - 테이블: {}", tableId);
 
-        // 테이블 유효성 검증
-        CafeTable table = tableRepository.findById(tableId)
-                .filter(CafeTable::getIsActive)
-                .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
-
-        if (table.getStatus() != TableStatus.OCCUPIED) {
-            throw new IllegalArgumentException("사용중이 아닌 테이블입니다");
-        }
+        CafeTable table = findOrderableTable(tableId);
 
         // 장바구니 조회 및 검증
-        Cart cart = cartRepository.findByTableWithItems(table)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니가 비어있습니다"));
+        TableCart cart = cartService.getCartForOrder(tableId);
 
-        if (cart.isEmpty()) {
-            throw new IllegalArgumentException("장바구니에 아이템이 없습니다");
-        }
+        Order savedOrder = placeOrder(table, cart, customerNotes).order();
 
-        // 주문 생성
-        Order order = Order.builder()
-                .table(table)
-                .totalAmount(cart.getTotalAmount())
-                .paymentAmount(cart.getTotalAmount())
-                .status(OrderStatus.PENDING)
-                .orderNotes(customerNotes)
-                .build();
+        // 주문한 아이템만 장바구니에서 삭제 (그 사이 더 담은 아이템은 남김)
+        cartService.removeOrderedItems(cart);
 
-        Order savedOrder = orderRepository.save(order);
+        log.info("주문 생성 완료 - 주문ID: {}, 테이블: {}, 총액: {}", 
+                savedOrder.getId(), table.getTableNumber(), savedOrder.getTotalAmount());
 
-        // 장바구니 아이템을 주문 아이템으로 변환
-        List<OrderItem> orderItems = cart.getCartItems().stream()
-                .map(cartItem -> convertCartItemToOrderItem(cartItem, savedOrder))
-                .toList();
+        return convertToOrderResponse(savedOrder);
+    }
 
-        orderItemRepository.saveAll(orderItems);
+    /**
+     * 접수해 둔 장바구니 사본으로 주문 생성 (비동기 접수 처리용, 장바구니는 접수 때 이미 비움)
+     *
+     * @return 생성된 주문 ID
+     */
+    @Transactional
+    public Long createOrderFromAcceptedCart(TableCart cart, String customerNotes) {
+        CafeTable table = findOrderableTable(cart.getTableId());
+        Order savedOrder = placeOrder(table, cart, customerNotes).order();
 
-        // 장바구니 삭제
-        cartService.clearCart(tableId);
+        log.info("접수 주문 생성 완료 - 주문ID: {}, 테이블: {}, 총액: {}",
+                savedOrder.getId(), table.getTableNumber(), savedOrder.getTotalAmount());
+        return savedOrder.getId();
+    }
 
-        log.info("주문 생성 완료 - 주문ID: {}, 테이블: {}, 총액: {}", 
+    /**
+     * 장바구니 없이 주문 생성 (키오스크처럼 클라이언트에서 담은 항목을 한 번에 주문)
+     *
+     * 메뉴/옵션은 카탈로그 스냅샷에서 검증하고 가격을 정하므로 메뉴 조회 쿼리가 없고, 장바구니 테이블도 사용하지 않는다.
+     */
+    @Transactional
+    public OrderResponse createAnonymousOrder(AnonymousOrderCreateRequest request) {
+        log.info("즉시 주문 생성 시작 - 테이블: {}, 항목: {}개", request.getTableId(), request.getOrderItems().size());
+
+        CafeTable table = findOrderableTable(request.getTableId());
+        MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
+
+        List<MenuResponse> menus = new ArrayList<>();
+        List<List<MenuOptionResponse>> selectedOptions = new ArrayList<>();
+        List<TableCart.Item> items = new ArrayList<>();
+        for (OrderItemRequest itemRequest : request.getOrderItems()) {
+            MenuResponse menu = catalog.getAvailableMenu(itemRequest.getMenuId());
+            if (menu == null) {
+                if (!menuRepository.existsById(itemRequest.getMenuId())) {
+                    throw new IllegalArgumentException("메뉴를 찾을 수 없습니다");
+                }
+                throw new IllegalArgumentException("현재 판매하지 않는 메뉴입니다");
+            }
+            List<MenuOptionResponse> options = findSelectedOptions(menu, itemRequest.getSelectedOptionIds());
+            Money unitPrice = Money.of(menu.getPrice())
+                    .plus(Money.sum(options, option -> Money.of(option.getAdditionalPrice())));
+
+            menus.add(menu);
+            selectedOptions.add(options);
+            items.add(new TableCart.Item(null, menu.getId(), menu.getName(), itemRequest.getQuantity(), unitPrice,
+                    itemRequest.getSpecialInstructions()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        PlacedOrder placed = placeOrder(table, new TableCart(null, table.getId(), items, now, now), request.getCustomerNote());
+
+        List<OrderItemOption> orderItemOptions = new ArrayList<>();
+        for (int i = 0; i < placed.items().size(); i++) {
+            OrderItem orderItem = placed.items().get(i);
+            selectedOptions.get(i).forEach(option -> orderItemOptions.add(OrderItemOption.builder()
+                    .orderItem(orderItem)
+                    .menuOption(menuOptionRepository.getReferenceById(option.getId()))
+                    .build()));
+        }
+        if (!orderItemOptions.isEmpty()) {
+            orderItemOptionRepository.saveAll(orderItemOptions);
+        }
+
+        Order savedOrder = placed.order();
+        log.info("즉시 주문 생성 완료 - 주문ID: {}, 테이블: {}, 총액: {}",
                 savedOrder.getId(), table.getTableNumber(), savedOrder.getTotalAmount());
 
-        return convertToOrderResponse(savedOrder);
+        // 메뉴 프록시를 초기화하지 않도록 응답은 카탈로그 값으로 조립
+        List<OrderItemResponse> itemResponses = new ArrayList<>();
+        for (int i = 0; i < placed.items().size(); i++) {
+            OrderItem orderItem = placed.items().get(i);
+            itemResponses.add(OrderItemResponse.builder()
+                    .id(orderItem.getId())
+                    .menu(menus.get(i))
+                    .quantity(orderItem.getQuantity())
+                    .unitPrice(orderItem.getUnitPrice())
+                    .totalPrice(orderItem.getSubtotal())
+                    .selectedOptions(selectedOptions.get(i))
+                    .specialInstructions(orderItem.getNotes())
+                    .build());
+        }
+        return OrderResponse.builder()
+                .id(savedOrder.getId())
+                .table(convertToTableResponse(table))
+                .orderItems(itemResponses)
+                .totalAmount(savedOrder.getTotalAmount())
+                .status(savedOrder.getStatus().name())
+                .customerNote(savedOrder.getOrderNotes())
+                .createdAt(savedOrder.getCreatedAt())
+                .build();
     }
 
     /**
-     * 주문 조회
+     * 주문 조회 (운영 테이블에 없으면 보관 테이블에서)
      */
     public OrderResponse getOrder(Long orderId) {
         log.info("주문 조회 - 주문ID: {}", orderId);
 
-        Order order = orderRepository.findById(orderId)
+        return orderRepository.findWithDetailsById(orderId)
+                .map(this::convertToOrderResponse)
+                .or(() -> orderArchiveRepository.findWithDetailsById(orderId).map(this::convertToOrderResponse))
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
-
-        return convertToOrderResponse(order);
     }
 
     /**
@@ -112,8 +194,9 @@ public class OrderService {
     public OrderResponse updateOrderStatus(Long orderId, OrderStatus newStatus) {
         log.info("주문 상태 변경 - 주문ID: {}, 새상태: {}", orderId, newStatus);
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithDetailsById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
+        OrderStatus previousStatus = order.getStatus();
 
         // 상태별 처리
         switch (newStatus) {
@@ -131,6 +214,7 @@ public class OrderService {
             }
             case CANCELLED -> {
                 order.cancel();
+                stockReservations.release(orderedQuantities(order));
                 log.info("주문 취소 - 주문ID: {}", order.getId());
             }
             default -> {
@@ -139,6 +223,7 @@ public class OrderService {
         }
 
         orderRepository.save(order);
+        orderLifecycle.statusChanged(order, previousStatus);
         return convertToOrderResponse(order);
     }
 
@@ -149,7 +234,7 @@ public class OrderService {
     public OrderResponse cancelOrder(Long orderId, String reason) {
         log.info("주문 취소 요청 - 주문ID: {}, 사유: {}", orderId, reason);
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithDetailsById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
 
         // 취소 가능 상태인지 확인
@@ -157,82 +242,195 @@ public class OrderService {
             throw new IllegalArgumentException("현재 상태에서는 주문을 취소할 수 없습니다");
         }
 
+        OrderStatus previousStatus = order.getStatus();
         order.cancel();
+        stockReservations.release(orderedQuantities(order));
         order.updateOrderNotes(order.getOrderNotes() + " [취소사유: " + reason + "]");
 
         orderRepository.save(order);
+        orderLifecycle.statusChanged(order, previousStatus);
 
         log.info("주문 취소 완료 - 주문ID: {}", order.getId());
         return convertToOrderResponse(order);
     }
 
     /**
-     * 관리자용 주문 목록 조회
+     * 주방 보드 조회 (진행 중인 주문, 생성 순)
      */
-    public Page<OrderResponse> getOrdersForAdmin(OrderStatus status, LocalDateTime startDate, 
-                                               LocalDateTime endDate, Pageable pageable) {
-        log.info("관리자 주문 목록 조회 - 상태: {}, 기간: {} ~ {}", status, startDate, endDate);
+    public List<KitchenOrderResponse> getKitchenOrders() {
+        return kitchenBoard.getOrders();
+    }
 
-        Page<Order> orders;
-        
-        if (status != null) {
-            orders = orderRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
-        } else {
-            orders = orderRepository.findAllByOrderByCreatedAtDesc(pageable);
+    /**
+     * 주방 보드 구독 (SSE)
+     *
+     * 첫 이벤트로 현재 보드 전체를, 이후에는 주문 추가/상태 변경/제거를 보낸다.
+     */
+    public SseEmitter subscribeKitchen() {
+        log.info("주방 보드 구독");
+        return kitchenBoard.subscribe();
+    }
+
+    /**
+     * 관리자용 주문 목록 조회 (최신순, 커서 기반)
+     *
+     * size + 1건을 읽어 다음 페이지 여부만 판단하고 COUNT는 하지 않는다.
+     * 조회 범위가 보관 기준 시각 이전을 포함하고 완료/취소 주문이 대상일 때만 보관 테이블도 읽어 합친다.
+     */
+    public CursorPageResponse<OrderResponse> getOrdersForAdmin(OrderStatus status, Long tableId,
+                                                               LocalDateTime startDate, LocalDateTime endDate,
+                                                               String cursor, int size) {
+        log.info("관리자 주문 목록 조회 - 상태: {}, 테이블: {}, 기간: {} ~ {}", status, tableId, startDate, endDate);
+
+        if (startDate != null && endDate != null && !startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 이전이어야 합니다");
+        }
+        OrderCursor after = cursor != null ? OrderCursor.decode(cursor) : null;
+
+        // 페이지는 to-one 연관만 조인해 LIMIT을 DB에서 적용하고, 아이템은 고른 주문에 대해 한 번 더 조회
+        List<OrderCursor> hits = new ArrayList<>();
+        Set<Long> archivedIds = new HashSet<>();
+        orderRepository.findBy(adminCondition(status, tableId, startDate, endDate, after), query -> query
+                        .project("table", "payment")
+                        .sortBy(OrderSpecifications.NEWEST_FIRST)
+                        .limit(size + 1)
+                        .all())
+                .forEach(order -> hits.add(OrderCursor.after(order)));
+
+        boolean archivable = status == null || status == OrderStatus.COMPLETED || status == OrderStatus.CANCELLED;
+        if (archivable && (startDate == null || startDate.isBefore(orderArchiver.horizon()))) {
+            orderArchiveRepository.findBy(adminCondition(status, tableId, startDate, endDate, after), query -> query
+                            .project("table")
+                            .sortBy(OrderSpecifications.NEWEST_FIRST)
+                            .limit(size + 1)
+                            .all())
+                    .forEach(order -> {
+                        hits.add(new OrderCursor(order.getCreatedAt(), order.getId()));
+                        archivedIds.add(order.getId());
+                    });
+            hits.sort(OrderCursor.NEWEST_FIRST);
         }
 
-        return orders.map(this::convertToOrderResponse);
+        boolean hasNext = hits.size() > size;
+        List<OrderCursor> page = hasNext ? hits.subList(0, size) : hits;
+        Map<Long, OrderResponse> responses = loadOrderResponses(page, archivedIds);
+
+        return CursorPageResponse.<OrderResponse>builder()
+                .content(page.stream().map(hit -> responses.get(hit.orderId())).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(size - 1).encode() : null)
+                .build();
     }
 
     /**
-     * 오늘 주문 통계 (간단한 메서드)
+     * 주문 보관 즉시 실행 (평소에는 OrderArchiver가 매일 수행)
      */
-    public String getTodayOrderStats() {
-        LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1).minusSeconds(1);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderArchiveResponse archiveOrders() {
+        log.info("주문 보관 요청");
+        return orderArchiver.archive();
+    }
 
-        log.info("오늘 주문 통계 조회: {} ~ {}", startOfDay, endOfDay);
+    /**
+     * 주문 이벤트 구독 (lastEventId 이후 놓친 이벤트부터)
+     */
+    public SseEmitter subscribeOrderEvents(String lastEventId) {
+        return orderEventStream.subscribe(lastEventId);
+    }
 
-        List<Order> todayOrders = orderRepository.findByCreatedAtBetween(startOfDay, endOfDay);
-        
-        long totalOrders = todayOrders.size();
-        long completedOrders = todayOrders.stream()
-                .filter(order -> order.getStatus() == OrderStatus.COMPLETED)
-                .count();
-        
-        BigDecimal totalRevenue = todayOrders.stream()
-                .filter(order -> order.getStatus() == OrderStatus.COMPLETED)
-                .map(Order::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * 오늘 주문 통계 (메모리 집계)
+     */
+    public DailyOrderStatsResponse getTodayOrderStats() {
+        return dailyStats.orderStats();
+    }
 
-        return String.format("오늘 주문: %d건, 완료: %d건, 매출: %s원", 
-                totalOrders, completedOrders, totalRevenue.toString());
+    /**
+     * 주문 상태별 개수 조회 (관리자 대시보드용, 메모리 카운터)
+     */
+    public OrderStatusCountResponse getOrderStatusCounts() {
+        return orderStatusCounters.snapshot();
+    }
+
+    /**
+     * 주문 가능한 테이블 (활성 상태이고 사용 중)
+     */
+    private CafeTable findOrderableTable(Long tableId) {
+        CafeTable table = tableRepository.findById(tableId)
+                .filter(CafeTable::getIsActive)
+                .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다"));
+
+        if (table.getStatus() != TableStatus.OCCUPIED) {
+            throw new IllegalArgumentException("사용중이 아닌 테이블입니다");
+        }
+        return table;
     }
 
     /**
-     * 주문 상태별 개수 조회 (관리자 대시보드용)
+     * 담긴 항목으로 주문과 주문 아이템 저장 (재고 예약, 인기 메뉴 집계, 주문 생성 후처리 포함)
      */
-    public String getOrderStatusCounts() {
-        log.info("주문 상태별 개수 조회");
-
-        List<Order> pendingOrders = orderRepository.findByStatus(OrderStatus.PENDING);
-        List<Order> preparingOrders = orderRepository.findByStatus(OrderStatus.PREPARING);
-        List<Order> readyOrders = orderRepository.findByStatus(OrderStatus.READY);
-        List<Order> completedOrders = orderRepository.findByStatus(OrderStatus.COMPLETED);
-        List<Order> cancelledOrders = orderRepository.findByStatus(OrderStatus.CANCELLED);
-
-        return String.format("대기: %d, 조리중: %d, 준비완료: %d, 완료: %d, 취소: %d",
-                pendingOrders.size(), preparingOrders.size(), readyOrders.size(),
-                completedOrders.size(), cancelledOrders.size());
+    private PlacedOrder placeOrder(CafeTable table, TableCart cart, String customerNotes) {
+        // 한정 메뉴 재고 예약 (주문이 롤백되면 자동 취소)
+        stockReservations.reserve(cart.getItems().stream()
+                .collect(Collectors.groupingBy(TableCart.Item::getMenuId,
+                        Collectors.summingInt(TableCart.Item::getQuantity))));
+
+        // 주문 생성
+        Order order = Order.builder()
+                .table(table)
+                .totalAmount(cart.getTotalAmount())
+                .paymentAmount(cart.getTotalAmount())
+                .status(OrderStatus.PENDING)
+                .orderNotes(customerNotes)
+                .build();
+
+        Order savedOrder = orderRepository.save(order);
+
+        // 담긴 항목을 주문 아이템으로 변환
+        List<OrderItem> orderItems = cart.getItems().stream()
+                .map(cartItem -> convertCartItemToOrderItem(cartItem, savedOrder))
+                .toList();
+
+        orderItemRepository.saveAll(orderItems);
+        popularMenuTracker.recordOrder(orderItems.stream()
+                .map(orderItem -> orderItem.getMenu().getId())
+                .toList());
+
+        orderLifecycle.placed(savedOrder, cart);
+        return new PlacedOrder(savedOrder, orderItems);
+    }
+
+    /**
+     * 메뉴에 속한 판매 중인 옵션만 선택 가능
+     */
+    private static List<MenuOptionResponse> findSelectedOptions(MenuResponse menu, List<Long> optionIds) {
+        if (optionIds == null || optionIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, MenuOptionResponse> available = menu.getMenuOptions() == null ? Map.of() : menu.getMenuOptions().stream()
+                .filter(MenuOptionResponse::isAvailable)
+                .collect(Collectors.toMap(MenuOptionResponse::getId, option -> option));
+
+        return optionIds.stream()
+                .distinct()
+                .map(optionId -> {
+                    MenuOptionResponse option = available.get(optionId);
+                    if (option == null) {
+                        throw new IllegalArgumentException("선택할 수 없는 메뉴 옵션입니다");
+                    }
+                    return option;
+                })
+                .toList();
     }
 
     /**
      * 장바구니 아이템을 주문 아이템으로 변환
      */
-    private OrderItem convertCartItemToOrderItem(CartItem cartItem, Order order) {
+    private OrderItem convertCartItemToOrderItem(TableCart.Item cartItem, Order order) {
         return OrderItem.builder()
                 .order(order)
-                .menu(cartItem.getMenu())
+                .menu(menuRepository.getReferenceById(cartItem.getMenuId()))
                 .quantity(cartItem.getQuantity())
                 .unitPrice(cartItem.getUnitPrice())
                 .subtotal(cartItem.getSubtotal())
@@ -240,26 +438,78 @@ public class OrderService {
                 .build();
     }
 
+    /**
+     * 주문에 담긴 메뉴별 수량
+     */
+    static Map<Long, Integer> orderedQuantities(Order order) {
+        return order.getOrderItems().stream()
+                .collect(Collectors.groupingBy(orderItem -> orderItem.getMenu().getId(),
+                        Collectors.summingInt(OrderItem::getQuantity)));
+    }
+
+    private static <T> Specification<T> adminCondition(OrderStatus status, Long tableId, LocalDateTime startDate,
+                                                       LocalDateTime endDate, OrderCursor after) {
+        return Specification.allOf(
+                OrderSpecifications.hasStatus(status),
+                OrderSpecifications.ofTable(tableId),
+                OrderSpecifications.createdBetween(startDate, endDate),
+                after != null ? OrderSpecifications.olderThan(after.createdAt(), after.orderId()) : null);
+    }
+
+    /**
+     * 페이지로 고른 주문의 응답을 운영/보관 테이블별로 한 번씩 조회해 조립
+     */
+    private Map<Long, OrderResponse> loadOrderResponses(List<OrderCursor> page, Set<Long> archivedIds) {
+        List<Long> liveIds = new ArrayList<>();
+        List<Long> archiveIds = new ArrayList<>();
+        for (OrderCursor hit : page) {
+            (archivedIds.contains(hit.orderId()) ? archiveIds : liveIds).add(hit.orderId());
+        }
+
+        Map<Long, OrderResponse> responses = new HashMap<>();
+        if (!liveIds.isEmpty()) {
+            orderRepository.findWithDetailsByIdIn(liveIds)
+                    .forEach(order -> responses.put(order.getId(), convertToOrderResponse(order)));
+        }
+        if (!archiveIds.isEmpty()) {
+            orderArchiveRepository.findWithDetailsByIdIn(archiveIds)
+                    .forEach(order -> responses.put(order.getId(), convertToOrderResponse(order)));
+        }
+        return responses;
+    }
+
     /**
      * Order를 OrderResponse로 변환
      */
     private OrderResponse convertToOrderResponse(Order order) {
-        TableResponse tableResponse = TableResponse.builder()
-                .id(order.getTable().getId())
-                .tableNumber(order.getTable().getTableNumber())
-                .seatCount(order.getTable().getSeatCount())
-                .locationDescription(order.getTable().getLocationDescription())
-                .status(order.getTable().getStatus().name())
-                .qrCode(order.getTable().getQrCode())
+        List<OrderItemResponse> itemResponses = order.getOrderItems().stream()
+                .map(orderItem -> convertToOrderItemResponse(orderItem.getId(), orderItem.getMenu(),
+                        orderItem.getQuantity(), orderItem.getUnitPrice(), orderItem.getSubtotal(), orderItem.getNotes()))
+                .toList();
+
+        return OrderResponse.builder()
+                .id(order.getId())
+                .table(convertToTableResponse(order.getTable()))
+                .orderItems(itemResponses)
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus().name())
+                .customerNote(order.getOrderNotes())
+                .createdAt(order.getCreatedAt())
                 .build();
+    }
 
+    /**
+     * 보관된 주문을 OrderResponse로 변환
+     */
+    private OrderResponse convertToOrderResponse(OrderArchive order) {
         List<OrderItemResponse> itemResponses = order.getOrderItems().stream()
-                .map(this::convertToOrderItemResponse)
+                .map(orderItem -> convertToOrderItemResponse(orderItem.getId(), orderItem.getMenu(),
+                        orderItem.getQuantity(), orderItem.getUnitPrice(), orderItem.getSubtotal(), orderItem.getNotes()))
                 .toList();
 
         return OrderResponse.builder()
                 .id(order.getId())
-                .table(tableResponse)
+                .table(convertToTableResponse(order.getTable()))
                 .orderItems(itemResponses)
                 .totalAmount(order.getTotalAmount())
                 .status(order.getStatus().name())
@@ -268,11 +518,22 @@ public class OrderService {
                 .build();
     }
 
+    private TableResponse convertToTableResponse(CafeTable table) {
+        return TableResponse.builder()
+                .id(table.getId())
+                .tableNumber(table.getTableNumber())
+                .seatCount(table.getSeatCount())
+                .locationDescription(table.getLocationDescription())
+                .status(table.getStatus().name())
+                .qrCode(table.getQrCode())
+                .build();
+    }
+
     /**
-     * OrderItem을 OrderItemResponse로 변환
+     * 주문 아이템을 OrderItemResponse로 변환
      */
-    private OrderItemResponse convertToOrderItemResponse(OrderItem orderItem) {
-        Menu menu = orderItem.getMenu();
+    private OrderItemResponse convertToOrderItemResponse(Long id, Menu menu, Integer quantity,
+                                                         Money unitPrice, Money subtotal, String notes) {
         
         CategoryResponse categoryResponse = CategoryResponse.builder()
                 .id(menu.getCategory().getId())
@@ -290,12 +551,18 @@ public class OrderService {
                 .build();
 
         return OrderItemResponse.builder()
-                .id(orderItem.getId())
+                .id(id)
                 .menu(menuResponse)
-                .quantity(orderItem.getQuantity())
-                .unitPrice(orderItem.getUnitPrice())
-                .totalPrice(orderItem.getSubtotal())
-                .specialInstructions(orderItem.getNotes())
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .totalPrice(subtotal)
+                .specialInstructions(notes)
                 .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 저장한 주문과 담긴 순서대로의 주문 아이템
+     */
+    private record PlacedOrder(Order order, List<OrderItem> items) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.OrderStatusCountResponse;
+import com.coffeeplz.entity.OrderStatus;
+import com.coffeeplz.repository.OrderArchiveRepository;
+import com.coffeeplz.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 상태별 개수 (관리자 대시보드용)
+ *
+ * 주문 생성과 상태 전이가 커밋되면 메모리 카운터만 증감하고,
+ * 기동 시 운영/보관 테이블의 상태별 GROUP BY로 DB와 맞춘다 (보관은 옮기기만 하므로 카운터를 바꾸지 않는다).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusCounters {
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+
+    private final Map<OrderStatus, AtomicLong> counts = newCounts();
+
+    /**
+     * 기동 시 DB의 상태별 주문 수로 카운터 재설정
+     *
+     * 웹 서버와 주문 접수 스레드가 시작되기 전에 맞춰야, 그 사이 커밋된 주문의 증감을 덮어쓰지 않는다.
+     */
+    @PostConstruct
+    public void reconcile() {
+        Map<OrderStatus, Long> saved = new EnumMap<>(OrderStatus.class);
+        for (List<Object[]> rows : List.of(orderRepository.countGroupByStatus(), orderArchiveRepository.countGroupByStatus())) {
+            for (Object[] row : rows) {
+                saved.merge((OrderStatus) row[0], (Long) row[1], Long::sum);
+            }
+        }
+        counts.forEach((status, count) -> count.set(saved.getOrDefault(status, 0L)));
+        log.info("주문 상태별 개수 초기화 완료 - {}", saved);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 새 주문 반영
+     */
+    void orderPlaced(OrderStatus status) {
+        TransactionHooks.afterCommit(() -> counts.get(status).incrementAndGet());
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 상태 전이 반영 (같은 상태면 무시)
+     */
+    void transitioned(OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            counts.get(from).decrementAndGet();
+            counts.get(to).incrementAndGet();
+        });
+    }
+
+    public OrderStatusCountResponse snapshot() {
+        long pending = counts.get(OrderStatus.PENDING).get();
+        long preparing = counts.get(OrderStatus.PREPARING).get();
+        long ready = counts.get(OrderStatus.READY).get();
+        long completed = counts.get(OrderStatus.COMPLETED).get();
+        long cancelled = counts.get(OrderStatus.CANCELLED).get();
+
+        return OrderStatusCountResponse.builder()
+                .pending(pending)
+                .preparing(preparing)
+                .ready(ready)
+                .completed(completed)
+                .cancelled(cancelled)
+                .total(pending + preparing + ready + completed + cancelled)
+                .build();
+    }
+
+    private static Map<OrderStatus, AtomicLong> newCounts() {
+        Map<OrderStatus, AtomicLong> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, new AtomicLong());
+        }
+        return counts;
+    }
+}
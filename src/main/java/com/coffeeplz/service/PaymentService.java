@@ -8,8 +8,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -20,12 +18,15 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
+    private final StockReservations stockReservations;
+    private final OrderLifecycle orderLifecycle;
+    private final DailyStats dailyStats;
 
     /**
      * 카드 결제 처리
      */
     @Transactional
-    public PaymentResponse processCardPayment(Long orderId, BigDecimal amount) {
+    public PaymentResponse processCardPayment(Long orderId, Money amount) {
         log.info("카드 결제 처리 시작 - 주문ID: {}, 결제금액: {}", orderId, amount);
 
         // 주문 조회 및 검증
@@ -33,6 +34,7 @@ public class PaymentService {
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
 
         validatePaymentRequest(order, amount);
+        OrderStatus previousStatus = order.getStatus();
 
         // 결제 정보 생성
         String transactionId = generateTransactionId();
@@ -53,6 +55,7 @@ public class PaymentService {
         if (paymentSuccess) {
             payment.completePayment(transactionId);
             order.updateStatus(OrderStatus.PREPARING);
+            dailyStats.paymentCompleted(payment);
             log.info("카드 결제 성공 - 거래ID: {}, 주문ID: {}", transactionId, orderId);
         } else {
             payment.failPayment("결제 승인 실패");
@@ -61,6 +64,7 @@ public class PaymentService {
 
         paymentRepository.save(payment);
         orderRepository.save(order);
+        orderLifecycle.statusChanged(order, previousStatus);
 
         return convertToPaymentResponse(payment);
     }
@@ -69,7 +73,7 @@ public class PaymentService {
      * 현금 결제 처리
      */
     @Transactional
-    public PaymentResponse processCashPayment(Long orderId, BigDecimal amount) {
+    public PaymentResponse processCashPayment(Long orderId, Money amount) {
         log.info("현금 결제 처리 시작 - 주문ID: {}, 결제금액: {}", orderId, amount);
 
         // 주문 조회 및 검증
@@ -77,6 +81,7 @@ public class PaymentService {
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
 
         validatePaymentRequest(order, amount);
+        OrderStatus previousStatus = order.getStatus();
 
         String transactionId = generateTransactionId();
 
@@ -90,9 +95,11 @@ public class PaymentService {
 
         payment.completePayment(transactionId);
         order.updateStatus(OrderStatus.PREPARING);
+        dailyStats.paymentCompleted(payment);
 
         paymentRepository.save(payment);
         orderRepository.save(order);
+        orderLifecycle.statusChanged(order, previousStatus);
 
         log.info("현금 결제 완료 - 거래ID: {}, 주문ID: {}", transactionId, orderId);
         return convertToPaymentResponse(payment);
@@ -141,14 +148,20 @@ public class PaymentService {
 
         if (refundSuccess) {
             payment.refundPayment();
+            dailyStats.paymentRefunded(payment);
             payment.setFailureReason("환불: " + reason);
             
             // 주문 상태도 취소로 변경
             Order order = payment.getOrder();
+            OrderStatus previousStatus = order.getStatus();
+            if (order.getStatus() != OrderStatus.CANCELLED) {
+                stockReservations.release(OrderService.orderedQuantities(order));
+            }
             order.updateStatus(OrderStatus.CANCELLED);
             
             paymentRepository.save(payment);
             orderRepository.save(order);
+            orderLifecycle.statusChanged(order, previousStatus);
             
             log.info("결제 환불 완료 - 거래ID: {}", payment.getTransactionId());
         } else {
@@ -160,26 +173,16 @@ public class PaymentService {
     }
 
     /**
-     * 오늘 결제 통계
+     * 오늘 결제 통계 (메모리 집계)
      */
-    public String getTodayPaymentStats() {
-        LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1).minusSeconds(1);
-
-        log.info("오늘 결제 통계 조회: {} ~ {}", startOfDay, endOfDay);
-
-        BigDecimal totalAmount = paymentRepository.getTotalCompletedAmountBetween(startOfDay, endOfDay);
-        long totalCount = paymentRepository.getCompletedPaymentCountBetween(startOfDay, endOfDay);
-
-        if (totalAmount == null) totalAmount = BigDecimal.ZERO;
-
-        return String.format("오늘 결제: %d건, 총액: %s원", totalCount, totalAmount.toString());
+    public DailyPaymentStatsResponse getTodayPaymentStats() {
+        return dailyStats.paymentStats();
     }
 
     /**
      * 결제 요청 유효성 검증
      */
-    private void validatePaymentRequest(Order order, BigDecimal amount) {
+    private void validatePaymentRequest(Order order, Money amount) {
         if (order.getStatus() != OrderStatus.PENDING) {
             throw new IllegalArgumentException("결제할 수 없는 주문 상태입니다");
         }
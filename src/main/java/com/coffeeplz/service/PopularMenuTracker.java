@@ -0,0 +1,197 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.repository.OrderItemRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 30일 인기 메뉴 집계기
+ *
+ * 일자별 버킷마다 Space-Saving 스케치로 메뉴별 주문 수를 누적하고,
+ * 조회 시에는 버킷을 합친 순위를 캐시해 두었다가 그대로 돌려준다.
+ * 주문 커밋 시 증분 반영하며, 기동 시 DB의 일자별 집계로 다시 채운다.
+ */
+@Component
+@Slf4j
+public class PopularMenuTracker {
+
+    static final int WINDOW_DAYS = 30;
+
+    private final OrderItemRepository orderItemRepository;
+    private final int sketchCapacity;
+
+    // 아래 필드는 this 잠금 안에서만 변경
+    private final DayBucket[] buckets = new DayBucket[WINDOW_DAYS];
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    public PopularMenuTracker(OrderItemRepository orderItemRepository,
+                              @Value("${coffeeplz.popular.sketch-capacity:512}") int sketchCapacity) {
+        this.orderItemRepository = orderItemRepository;
+        this.sketchCapacity = sketchCapacity;
+    }
+
+    /**
+     * 기동 시 최근 30일 주문을 일자별로 집계해 버킷 재구성
+     *
+     * 버킷을 비우고 다시 채우므로, 주문을 받기 시작하기 전에 끝내야 그 사이 반영된 주문이 사라지지 않는다.
+     */
+    @PostConstruct
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = today.minusDays(WINDOW_DAYS - 1);
+        List<Object[]> rows = orderItemRepository.countOrderItemsByMenuAndDaySince(firstDay.atStartOfDay());
+
+        synchronized (this) {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = null;
+            }
+            for (Object[] row : rows) {
+                bucketOf((LocalDate) row[1]).add((Long) row[0], (Long) row[2]);
+            }
+            ranking = Ranking.EMPTY;
+        }
+        log.info("인기 메뉴 집계 초기화 완료 - 집계 행: {}개", rows.size());
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 주문된 메뉴 반영 (메뉴 ID는 주문 아이템 하나당 한 번)
+     */
+    public void recordOrder(List<Long> menuIds) {
+        TransactionHooks.afterCommit(() -> record(LocalDate.now(), menuIds));
+    }
+
+    synchronized void record(LocalDate day, Collection<Long> menuIds) {
+        DayBucket bucket = bucketOf(day);
+        for (Long menuId : menuIds) {
+            bucket.add(menuId, 1L);
+        }
+        ranking = Ranking.EMPTY;
+    }
+
+    /**
+     * 최근 30일 주문 수 내림차순 메뉴 ID
+     */
+    public List<Long> topMenuIds() {
+        return currentRanking().getMenuIds();
+    }
+
+    /**
+     * 최근 30일 메뉴 주문 수 (스케치 추정치)
+     */
+    public long count(Long menuId) {
+        return currentRanking().getCounts().getOrDefault(menuId, 0L);
+    }
+
+    private Ranking currentRanking() {
+        LocalDate today = LocalDate.now();
+        Ranking current = ranking;
+        if (current != Ranking.EMPTY && current.day.equals(today)) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (ranking == Ranking.EMPTY || !ranking.day.equals(today)) {
+                ranking = merge(today);
+            }
+            return ranking;
+        }
+    }
+
+    private Ranking merge(LocalDate today) {
+        LocalDate firstDay = today.minusDays(WINDOW_DAYS - 1);
+        Map<Long, Long> counts = new HashMap<>();
+        for (DayBucket bucket : buckets) {
+            if (bucket == null || bucket.day.isBefore(firstDay) || bucket.day.isAfter(today)) {
+                continue;
+            }
+            bucket.counters.forEach((menuId, counter) -> counts.merge(menuId, counter.count, Long::sum));
+        }
+
+        List<Long> menuIds = new ArrayList<>(counts.keySet());
+        menuIds.sort(Comparator.comparing((Long menuId) -> counts.get(menuId)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        return new Ranking(today, List.copyOf(menuIds), Map.copyOf(counts));
+    }
+
+    /**
+     * 해당 날짜 버킷 (30일 전 같은 자리의 버킷은 비우고 재사용)
+     */
+    private DayBucket bucketOf(LocalDate day) {
+        int slot = (int) Math.floorMod(day.toEpochDay(), (long) WINDOW_DAYS);
+        DayBucket bucket = buckets[slot];
+        if (bucket == null || !bucket.day.equals(day)) {
+            bucket = new DayBucket(day, sketchCapacity);
+            buckets[slot] = bucket;
+        }
+        return bucket;
+    }
+
+    /**
+     * 하루치 Space-Saving 스케치
+     *
+     * 용량을 넘으면 가장 작은 카운터를 새 메뉴에 넘겨준다.
+     * 이때 넘겨받은 값만큼 과대 추정될 수 있지만 상위 메뉴는 빠지지 않는다.
+     */
+    private static final class DayBucket {
+        private final LocalDate day;
+        private final int capacity;
+        private final Map<Long, Counter> counters = new HashMap<>();
+
+        private DayBucket(LocalDate day, int capacity) {
+            this.day = day;
+            this.capacity = capacity;
+        }
+
+        private void add(Long menuId, long amount) {
+            Counter counter = counters.get(menuId);
+            if (counter == null) {
+                if (counters.size() < capacity) {
+                    counter = new Counter();
+                } else {
+                    Long evicted = minimum();
+                    counter = counters.remove(evicted);
+                }
+                counters.put(menuId, counter);
+            }
+            counter.count += amount;
+        }
+
+        private Long minimum() {
+            Long minimum = null;
+            long minimumCount = Long.MAX_VALUE;
+            for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+                if (entry.getValue().count < minimumCount) {
+                    minimum = entry.getKey();
+                    minimumCount = entry.getValue().count;
+                }
+            }
+            return minimum;
+        }
+    }
+
+    private static final class Counter {
+        private long count;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Ranking {
+        private static final Ranking EMPTY = new Ranking(LocalDate.MIN, List.of(), Map.of());
+
+        private final LocalDate day;
+        private final List<Long> menuIds;
+        private final Map<Long, Long> counts;
+    }
+}
@@ -0,0 +1,268 @@
+package com.coffeeplz.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 키(테이블 등)별 Server-Sent Events 구독자 관리
+ *
+ * 발행은 구독자별 고정 크기 버퍼에 넣기만 하고, 실제 전송은 허브 전용 전송 스레드(send-threads개)에서 구독자마다 하나씩 순서대로 처리한다.
+ * 전송은 블로킹이라 느린 클라이언트가 스레드를 붙잡을 수 있으므로 다른 허브나 @Async 작업과 스레드를 나누지 않는다.
+ * 버퍼가 가득 찬 구독자와 한 번의 전송이 send-timeout을 넘긴 구독자(heartbeat 때 확인)는 느린 소비자로 보고 연결을 끊는다
+ * (EventSource가 재연결하면서 최신 상태를 다시 받는다). 연결 종료는 전송 스레드에서 하므로 발행 스레드는 막히지 않는다.
+ *
+ * @param <K> 구독 키 타입
+ */
+@Slf4j
+public final class SseHub<K> {
+
+    private final String name;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final ThreadPoolExecutor executor;
+    private final Counter droppedCounter;
+
+    private final Map<K, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public SseHub(String name, int bufferSize, Duration timeout, int sendThreads, Duration sendTimeout,
+                  MeterRegistry meterRegistry) {
+        this.name = name;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(sendThreads, sendThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-" + name + "-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.droppedCounter = Counter.builder("coffeeplz.sse.dropped")
+                .description("버퍼 초과나 전송 지연으로 끊은 SSE 구독자 수")
+                .tag("hub", name)
+                .register(meterRegistry);
+        Gauge.builder("coffeeplz.sse.subscribers", this, SseHub::subscriberCount)
+                .description("현재 SSE 구독자 수")
+                .tag("hub", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록 (initialData가 있으면 첫 이벤트로 전송)
+     *
+     * 초기 데이터는 구독을 등록한 뒤에 만들어서, 그 사이에 발행된 이벤트가 빠지지 않게 한다.
+     */
+    public SseEmitter subscribe(K key, String initialEvent, Supplier<?> initialData) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(key, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        if (initialData != null) {
+            enqueue(subscriber, new Event(initialEvent, null, initialData.get(), null));
+        }
+        log.debug("SSE 구독 - {}: {}", name, key);
+        return emitter;
+    }
+
+    /**
+     * 키의 구독자 전체에 이벤트 발행 (호출 스레드는 전송을 기다리지 않음)
+     */
+    public void publish(K key, String event, Object data) {
+        publish(key, event, null, data);
+    }
+
+    /**
+     * 이벤트 ID와 함께 발행 (재연결 시 브라우저가 마지막 ID를 Last-Event-ID 헤더로 보낸다)
+     */
+    public void publish(K key, String event, String id, Object data) {
+        Set<Subscriber> targets = subscribers.get(key);
+        if (targets == null) {
+            return;
+        }
+        Event message = new Event(event, id, data, null);
+        for (Subscriber subscriber : targets) {
+            enqueue(subscriber, message);
+        }
+    }
+
+    /**
+     * 모든 구독자에게 이벤트 발행
+     */
+    public void publishAll(String event, Object data) {
+        Event message = new Event(event, null, data, null);
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> enqueue(subscriber, message)));
+    }
+
+    /**
+     * 끊긴 연결을 찾아내기 위한 주석 이벤트 전송과 전송이 멈춘 구독자 정리 (소유 컴포넌트에서 주기적으로 호출)
+     */
+    public void heartbeat() {
+        Event ping = new Event(null, null, null, "ping");
+        long now = System.nanoTime();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            long sendStartedAt = subscriber.sendStartedAt;
+            if (sendStartedAt != 0 && now - sendStartedAt > sendTimeoutNanos) {
+                log.info("전송이 멈춘 SSE 구독자 연결 종료 - {}: {}", name, subscriber.key);
+                expire(subscriber);
+                return;
+            }
+            enqueue(subscriber, ping);
+        }));
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 모든 구독 종료와 전송 스레드 정리 (애플리케이션 종료 시)
+     */
+    public void close() {
+        subscribers.values().stream()
+                .flatMap(Set::stream)
+                .toList()
+                .forEach(subscriber -> {
+                    remove(subscriber);
+                    subscriber.emitter.complete();
+                });
+        executor.shutdownNow();
+    }
+
+    private void enqueue(Subscriber subscriber, Event event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            log.info("느린 SSE 구독자 연결 종료 - {}: {}", name, subscriber.key);
+            expire(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    /**
+     * 느린 구독자 끊기 (emitter는 전송 중인 스레드와 잠금을 다투지 않도록 전송 스레드에서 완료한다)
+     */
+    private void expire(Subscriber subscriber) {
+        if (subscriber.expired) {
+            return;
+        }
+        droppedCounter.increment();
+        subscriber.expired = true;
+        remove(subscriber);
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Event event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedAt = System.nanoTime();
+                subscriber.emitter.send(event.toBuilder());
+                subscriber.sendStartedAt = 0;
+            }
+            if (subscriber.expired) {
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+            remove(subscriber);
+        } finally {
+            subscriber.sendStartedAt = 0;
+            subscriber.draining.set(false);
+        }
+
+        if (!subscriber.closed && !subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        subscribers.computeIfPresent(subscriber.key, (key, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private final class Subscriber {
+        private final K key;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // 느려서 끊기로 한 구독자 (전송 스레드가 emitter를 완료한다)
+        private volatile boolean expired;
+        // 진행 중인 전송의 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+
+        private Subscriber(K key, SseEmitter emitter, BlockingQueue<Event> queue) {
+            this.key = key;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+
+    /**
+     * 발행된 이벤트 (SseEventBuilder는 전송마다 새로 만든다)
+     */
+    private static final class Event {
+        private final String name;
+        private final String id;
+        private final Object data;
+        private final String comment;
+
+        private Event(String name, String id, Object data, String comment) {
+            this.name = name;
+            this.id = id;
+            this.data = data;
+            this.comment = comment;
+        }
+
+        private SseEmitter.SseEventBuilder toBuilder() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event();
+            if (comment != null) {
+                return builder.comment(comment);
+            }
+            if (name != null) {
+                builder.name(name);
+            }
+            if (id != null) {
+                builder.id(id);
+            }
+            return builder.data(data);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.repository.MenuRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재고 관리 메뉴의 인메모리 재고 예약
+ *
+ * 메뉴별 남은 수량을 CAS로 차감해 menu 행 잠금 없이 초과 판매를 막는다.
+ * 주문 트랜잭션이 롤백되면 예약을 되돌리고, 차감된 잔량은 주기적으로 한 트랜잭션에 모아 DB에 기록한다.
+ * 잔량이 0이 되면 기록 시 메뉴를 품절 처리하고 카탈로그를 갱신한다.
+ * 잔량이 다시 생기면 품절 처리로 중지한 메뉴만 판매를 재개한다 (관리자가 판매 중지한 메뉴는 그대로).
+ * 잔량은 이 인스턴스의 메모리가 기준이므로 단일 인스턴스 운영을 전제로 한다.
+ */
+@Component
+@Slf4j
+public class StockReservations {
+
+    private final MenuRepository menuRepository;
+    private final MenuCatalog menuCatalog;
+    private final TransactionTemplate writeTransaction;
+    private final Counter rejectedCounter;
+
+    private final Map<Long, Stock> stocks = new ConcurrentHashMap<>();
+
+    public StockReservations(MenuRepository menuRepository,
+                             MenuCatalog menuCatalog,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.menuRepository = menuRepository;
+        this.menuCatalog = menuCatalog;
+
+        // 커밋 직후에도 호출되므로 항상 별도 트랜잭션에서 기록한다
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.rejectedCounter = Counter.builder("coffeeplz.stock.reservations.rejected")
+                .description("재고 부족으로 거절된 예약 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 재고 관리 메뉴의 잔량 적재
+     *
+     * 적재 전에는 모든 메뉴가 재고 관리 대상이 아닌 것으로 보이므로, 주문을 받기 시작하기 전에 끝낸다
+     * (그 사이 판매분은 DB 잔량에서 빠지지 않아 초과 판매가 그대로 남는다).
+     */
+    @PostConstruct
+    public void load() {
+        List<Object[]> rows = writeTransaction.execute(status -> menuRepository.findManagedStock());
+        stocks.clear();
+        for (Object[] row : rows) {
+            int quantity = (Integer) row[1];
+            stocks.put((Long) row[0], new Stock(quantity));
+        }
+        log.info("메뉴 재고 적재 완료 - 재고 관리 메뉴: {}개", stocks.size());
+    }
+
+    /**
+     * 재고 관리 메뉴의 남은 수량 (관리하지 않는 메뉴는 null)
+     */
+    public Integer remaining(Long menuId) {
+        Stock stock = stocks.get(menuId);
+        return stock != null ? stock.available.get() : null;
+    }
+
+    /**
+     * 주어진 수량을 지금 예약할 수 있는지 확인 (예약하지는 않음)
+     */
+    public boolean isAvailable(Long menuId, int quantity) {
+        Stock stock = stocks.get(menuId);
+        return stock == null || stock.available.get() >= quantity;
+    }
+
+    /**
+     * 메뉴별 수량을 모두 예약하거나, 하나라도 부족하면 아무것도 예약하지 않는다
+     *
+     * 현재 트랜잭션이 롤백되면 예약이 자동으로 취소된다.
+     */
+    public void reserve(Map<Long, Integer> quantities) {
+        Map<Long, Integer> reserved = new LinkedHashMap<>();
+        boolean soldOut = false;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Stock stock = stocks.get(entry.getKey());
+            if (stock == null) {
+                continue;
+            }
+
+            int left = stock.tryReserve(entry.getValue());
+            if (left < 0) {
+                reserved.forEach(this::restore);
+                rejectedCounter.increment();
+                throw new IllegalArgumentException("재고가 부족합니다");
+            }
+            reserved.put(entry.getKey(), entry.getValue());
+            soldOut |= left == 0;
+        }
+
+        if (reserved.isEmpty()) {
+            return;
+        }
+
+        TransactionHooks.afterRollback(() -> reserved.forEach(this::restore));
+        if (soldOut) {
+            // 품절은 다음 주기를 기다리지 않고 바로 반영
+            TransactionHooks.afterCommit(this::flush);
+        }
+    }
+
+    /**
+     * 취소/환불된 수량을 현재 트랜잭션 커밋 후 되돌린다
+     */
+    public void release(Map<Long, Integer> quantities) {
+        TransactionHooks.afterCommit(() -> quantities.forEach(this::restore));
+    }
+
+    /**
+     * 관리자가 재고를 설정/해제한 내용을 현재 트랜잭션 커밋 후 반영 (null이면 재고 관리 해제)
+     */
+    public void reset(Long menuId, Integer quantity) {
+        TransactionHooks.afterCommit(() -> {
+            if (quantity == null) {
+                stocks.remove(menuId);
+            } else {
+                stocks.put(menuId, new Stock(quantity));
+            }
+        });
+    }
+
+    private void restore(Long menuId, Integer quantity) {
+        Stock stock = stocks.get(menuId);
+        if (stock != null) {
+            stock.release(quantity);
+        }
+    }
+
+    /**
+     * 변경된 잔량을 DB에 기록하고 품절/판매 재개를 반영
+     */
+    @Scheduled(fixedDelayString = "${coffeeplz.stock.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Stock> dirty = new LinkedHashMap<>();
+        stocks.forEach((menuId, stock) -> {
+            if (stock.dirty.getAndSet(false)) {
+                dirty.put(menuId, stock);
+            }
+        });
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        Map<Stock, Boolean> soldOutChanges = new LinkedHashMap<>();
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                List<MenuCatalog.Change> changes = new ArrayList<>();
+                LocalDateTime now = LocalDateTime.now();
+                dirty.forEach((menuId, stock) -> {
+                    int quantity = stock.available.get();
+                    menuRepository.updateStockQuantity(menuId, quantity);
+
+                    boolean soldOut = quantity == 0;
+                    if (soldOut != stock.soldOutWritten) {
+                        int updated = soldOut
+                                ? menuRepository.markSoldOut(menuId, now)
+                                : menuRepository.clearSoldOut(menuId, now);
+                        if (updated > 0) {
+                            changes.add(MenuCatalog.Change.menu(menuId));
+                        }
+                        soldOutChanges.put(stock, soldOut);
+                    }
+                });
+                if (!changes.isEmpty()) {
+                    menuCatalog.invalidate(changes.toArray(MenuCatalog.Change[]::new));
+                }
+            });
+        } catch (RuntimeException e) {
+            // 기록하지 못한 잔량은 다음 주기에 다시 기록
+            dirty.values().forEach(stock -> stock.dirty.set(true));
+            log.error("메뉴 재고 기록 실패 - 대상 메뉴: {}", dirty.keySet(), e);
+            return;
+        }
+
+        soldOutChanges.forEach((stock, soldOut) -> stock.soldOutWritten = soldOut);
+        log.debug("메뉴 재고 기록 - 메뉴: {}개, 품절 상태 변경: {}개", dirty.size(), soldOutChanges.size());
+    }
+
+    private static final class Stock {
+        private final AtomicInteger available;
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        // flush 잠금 안에서만 접근
+        private boolean soldOutWritten;
+
+        private Stock(int quantity) {
+            this.available = new AtomicInteger(quantity);
+            this.soldOutWritten = quantity == 0;
+        }
+
+        /**
+         * 예약 후 남은 수량 (부족하면 -1)
+         */
+        private int tryReserve(int quantity) {
+            while (true) {
+                int current = available.get();
+                if (current < quantity) {
+                    return -1;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    dirty.set(true);
+                    return current - quantity;
+                }
+            }
+        }
+
+        private void release(int quantity) {
+            available.addAndGet(quantity);
+            dirty.set(true);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.entity.Cart;
+import com.coffeeplz.entity.CartItem;
+import com.coffeeplz.entity.Money;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@link CartStore}가 돌려주는 테이블 장바구니의 불변 사본
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class TableCart {
+
+    private final Long id;
+    private final Long tableId;
+    private final List<Item> items;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * 아이템/메뉴가 함께 로딩된 장바구니 엔티티에서 생성
+     */
+    static TableCart of(Cart cart) {
+        List<Item> items = cart.getCartItems().stream()
+                .sorted(Comparator.comparing(CartItem::getId))
+                .map(cartItem -> new Item(cartItem.getId(), cartItem.getMenu().getId(), cartItem.getMenu().getName(),
+                        cartItem.getQuantity(), cartItem.getUnitPrice(), cartItem.getNotes()))
+                .toList();
+        return new TableCart(cart.getId(), cart.getTable().getId(), items, cart.getCreatedAt(), cart.getUpdatedAt());
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public Money getTotalAmount() {
+        return Money.sumOfProducts(items, Item::getUnitPrice, Item::getQuantity);
+    }
+
+    /**
+     * 장바구니에 담긴 메뉴 하나 (담을 때의 단가 유지)
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    public static final class Item {
+        private final Long id;
+        private final Long menuId;
+        private final String menuName;
+        private final int quantity;
+        private final Money unitPrice;
+        private final String notes;
+
+        public Money getSubtotal() {
+            return unitPrice.times(quantity);
+        }
+    }
+}
@@ -11,7 +11,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -102,6 +104,13 @@ public class TableService {
                 .build();
     }
 
+    /**
+     * 테이블 최종 수정 시각 조회 (조건부 요청용, 없으면 empty)
+     */
+    public Optional<LocalDateTime> getTableLastModified(Long tableId) {
+        return tableRepository.findUpdatedAtByIdAndIsActiveTrue(tableId);
+    }
+
     /**
      * 테이블 추가 (관리자용)
      */
@@ -0,0 +1,85 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.CartItemRequest;
+import com.coffeeplz.dto.CartResponse;
+import com.coffeeplz.dto.CategoryCreateRequest;
+import com.coffeeplz.dto.MenuCreateRequest;
+import com.coffeeplz.entity.Money;
+import com.coffeeplz.entity.TableStatus;
+import com.coffeeplz.dto.TableCreateRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "coffeeplz.cart.store=jpa",
+        "coffeeplz.outbox.poll-interval-ms=3600000"
+})
+class CartServiceStatementCountTest {
+
+    private static final long MAX_STATEMENTS_PER_ADD = 3;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void addItemToCartRunsAtMostThreeStatements() {
+        Long categoryId = menuService.createCategory(CategoryCreateRequest.builder()
+                .name("통계 테스트").displayOrder(99).build()).getId();
+        Long latteId = menuService.createMenu(MenuCreateRequest.builder()
+                .name("카페 라떼").price(new BigDecimal("5000")).categoryId(categoryId).build()).getId();
+        Long mochaId = menuService.createMenu(MenuCreateRequest.builder()
+                .name("카페 모카").price(new BigDecimal("5500")).categoryId(categoryId).build()).getId();
+        Long tableId = tableService.createTable(TableCreateRequest.builder()
+                .tableNumber("STMT-1").seatCount(2).build()).getId();
+        tableService.updateTableStatus(tableId, TableStatus.OCCUPIED);
+
+        // 첫 추가는 장바구니 생성을 포함
+        cartService.addItemToCart(tableId, request(tableId, latteId, 1));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        cartService.addItemToCart(tableId, request(tableId, mochaId, 1));
+        assertThat(statistics.getPrepareStatementCount()).isBetween(1L, MAX_STATEMENTS_PER_ADD);
+
+        statistics.clear();
+        CartResponse cart = cartService.addItemToCart(tableId, request(tableId, latteId, 2));
+        assertThat(statistics.getPrepareStatementCount()).isBetween(1L, MAX_STATEMENTS_PER_ADD);
+
+        assertThat(cart.getCartItems()).hasSize(2);
+        assertThat(cart.getCartItems())
+                .filteredOn(item -> item.getMenu().getId().equals(latteId))
+                .singleElement()
+                .satisfies(item -> {
+                    assertThat(item.getQuantity()).isEqualTo(3);
+                    assertThat(item.getTotalPrice()).isEqualTo(Money.won(15000));
+                });
+        assertThat(cart.getTotalAmount()).isEqualTo(Money.won(20500));
+    }
+
+    private static CartItemRequest request(Long tableId, Long menuId, int quantity) {
+        return CartItemRequest.builder()
+                .tableId(tableId)
+                .menuId(menuId)
+                .quantity(quantity)
+                .build();
+    }
+}
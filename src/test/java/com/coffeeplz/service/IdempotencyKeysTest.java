@@ -0,0 +1,67 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyKeysTest {
+
+    private final IdempotencyRecordRepository recordRepository = mock(IdempotencyRecordRepository.class);
+
+    @Test
+    void sameKeyProceedsOnceWhenFirstRequestsRace() throws Exception {
+        // 먼저 DB를 조회한 요청이 늦게 돌아와도 뒤 요청이 등록한 처리 중 상태를 지우지 않아야 한다
+        CountDownLatch firstLookup = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+        when(recordRepository.findById(anyString())).thenAnswer(invocation -> {
+            if (lookups.incrementAndGet() == 1) {
+                firstLookup.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return Optional.empty();
+        });
+        IdempotencyKeys keys = keys(100);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<IdempotencyKeys.Decision> slow = pool.submit(() -> keys.begin("POST /api/orders k1", "hash"));
+        assertThat(firstLookup.await(5, TimeUnit.SECONDS)).isTrue();
+        IdempotencyKeys.Decision fast = keys.begin("POST /api/orders k1", "hash");
+        release.countDown();
+
+        assertThat(fast.getType()).isEqualTo(IdempotencyKeys.Decision.Type.PROCEED);
+        assertThat(slow.get(5, TimeUnit.SECONDS).getType()).isEqualTo(IdempotencyKeys.Decision.Type.IN_PROGRESS);
+        pool.shutdown();
+    }
+
+    @Test
+    void evictionKeepsKeysInProgress() {
+        when(recordRepository.findById(anyString())).thenReturn(Optional.empty());
+        IdempotencyKeys keys = keys(2);
+
+        keys.begin("k1", "hash");
+        for (int i = 2; i <= 5; i++) {
+            keys.begin("k" + i, "hash");
+            keys.complete("k" + i, "hash", new IdempotencyKeys.StoredResponse(201, null, "{}"));
+        }
+
+        assertThat(keys.begin("k1", "hash").getType()).isEqualTo(IdempotencyKeys.Decision.Type.IN_PROGRESS);
+    }
+
+    private IdempotencyKeys keys(int maxEntries) {
+        return new IdempotencyKeys(recordRepository, mock(PlatformTransactionManager.class), 24, maxEntries);
+    }
+}
@@ -0,0 +1,164 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.CartItemRequest;
+import com.coffeeplz.dto.CategoryCreateRequest;
+import com.coffeeplz.dto.MenuCreateRequest;
+import com.coffeeplz.dto.TableCreateRequest;
+import com.coffeeplz.entity.TableStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 묶음 처리와 요청별 트랜잭션 비교 (COFFEEPLZ_BENCHMARK=true일 때만 실행)
+ *
+ * 같은 애플리케이션에서 같은 수의 동시 주문을 두 방식으로 넣고 처리량과 커넥션 대기 시간을 로그로 남기며,
+ * 묶음 처리의 처리량이 요청별 트랜잭션보다 낮지 않은지 확인한다.
+ * 인메모리 H2라 절대값보다 두 방식의 차이를 보는 용도다.
+ * 커넥션 풀은 동시 요청 수보다 작게 잡아 커넥션 대기가 드러나게 한다.
+ */
+@SpringBootTest(properties = {
+        "coffeeplz.order.ingest.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=8",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "logging.level.com.coffeeplz=WARN",
+        "logging.level.com.coffeeplz.service.OrderIngestBenchmarkTest=INFO"
+})
+@EnabledIfEnvironmentVariable(named = "COFFEEPLZ_BENCHMARK", matches = "true")
+@Slf4j
+class OrderIngestBenchmarkTest {
+
+    private static final int THREADS = 32;
+    private static final int WARM_UP_ORDERS = 100;
+    private static final int ORDERS = 1000;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderIngest orderIngest;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<Long> menuIds = new ArrayList<>();
+    private int tableSequence;
+
+    @Test
+    void batchedIngestVersusPerRequest() throws Exception {
+        Long categoryId = menuService.createCategory(CategoryCreateRequest.builder()
+                .name("벤치마크").displayOrder(97).build()).getId();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            menuIds.add(menuService.createMenu(MenuCreateRequest.builder()
+                    .name("벤치마크 메뉴 " + i).price(new BigDecimal("4500")).categoryId(categoryId).build()).getId());
+        }
+
+        LongConsumer perRequest = tableId -> orderService.createOrderFromCart(tableId, null);
+        LongConsumer batched = tableId -> orderIngest.createOrderFromCart(tableId, null);
+
+        run(WARM_UP_ORDERS, perRequest);
+        run(WARM_UP_ORDERS, batched);
+
+        Result perRequestResult = run(ORDERS, perRequest);
+        Result batchedResult = run(ORDERS, batched);
+
+        log.info(String.format("%-12s %10s %12s %14s %14s", "mode", "orders/s", "connections", "acquire avg ms", "acquire max ms"));
+        log.info(perRequestResult.format("per-request"));
+        log.info(batchedResult.format("batched"));
+        log.info("batched: 평균 묶음 크기 {}건",
+                String.format("%.1f", meterRegistry.get("coffeeplz.order.ingest.batch.size").summary().mean()));
+
+        assertThat(perRequestResult.completed()).isEqualTo(ORDERS);
+        assertThat(batchedResult.completed()).isEqualTo(ORDERS);
+        assertThat(batchedResult.ordersPerSecond()).isGreaterThanOrEqualTo(perRequestResult.ordersPerSecond());
+    }
+
+    /**
+     * 주문 수만큼 장바구니가 담긴 테이블을 만든 뒤, 그 주문들을 THREADS개 스레드로 동시에 넣는다
+     */
+    private Result run(int orders, LongConsumer placeOrder) throws Exception {
+        List<Long> tableIds = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            tableIds.add(tableWithCart());
+        }
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        long acquireCount = acquire != null ? acquire.count() : 0;
+        double acquireTotal = acquire != null ? acquire.totalTime(TimeUnit.MILLISECONDS) : 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long tableId : tableIds) {
+            futures.add(pool.submit(() -> placeOrder.accept(tableId)));
+        }
+        int completed = 0;
+        for (Future<?> future : futures) {
+            future.get();
+            completed++;
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        pool.shutdown();
+
+        long acquired = 0;
+        double acquireAvg = 0;
+        double acquireMax = 0;
+        if (acquire != null && acquire.count() > acquireCount) {
+            acquired = acquire.count() - acquireCount;
+            acquireAvg = (acquire.totalTime(TimeUnit.MILLISECONDS) - acquireTotal) / acquired;
+            acquireMax = acquire.max(TimeUnit.MILLISECONDS);
+        }
+        return new Result(completed, elapsedNanos, acquired, acquireAvg, acquireMax);
+    }
+
+    private Long tableWithCart() {
+        Long tableId = tableService.createTable(TableCreateRequest.builder()
+                .tableNumber("BENCH-" + (++tableSequence)).seatCount(4).build()).getId();
+        tableService.updateTableStatus(tableId, TableStatus.OCCUPIED);
+        for (Long menuId : menuIds) {
+            cartService.addItemToCart(tableId, CartItemRequest.builder()
+                    .tableId(tableId).menuId(menuId).quantity(1).build());
+        }
+        return tableId;
+    }
+
+    private record Result(int completed, long elapsedNanos, long connectionsAcquired,
+                          double acquireAvgMillis, double acquireMaxMillis) {
+
+        private double ordersPerSecond() {
+            return completed * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        private String format(String mode) {
+            return String.format("%-12s %10.0f %12d %14.2f %14.2f",
+                    mode, ordersPerSecond(), connectionsAcquired, acquireAvgMillis, acquireMaxMillis);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.CartItemRequest;
+import com.coffeeplz.dto.CategoryCreateRequest;
+import com.coffeeplz.dto.MenuCreateRequest;
+import com.coffeeplz.dto.OrderResponse;
+import com.coffeeplz.dto.TableCreateRequest;
+import com.coffeeplz.entity.TableStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 릴레이가 백그라운드에서 실행하는 쿼리가 측정에 섞이지 않게 한다
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "coffeeplz.outbox.relay-on-commit=false",
+        "coffeeplz.outbox.poll-interval-ms=3600000"
+})
+class OrderServiceStatementCountTest {
+
+    private static final int ITEM_COUNT = 10;
+    private static final long MAX_STATEMENTS_PER_ORDER = 4;
+    private static final int ORDERS_PER_TABLE = 4;
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void tenItemOrderIsInsertedInBatches() {
+        Long categoryId = menuService.createCategory(CategoryCreateRequest.builder()
+                .name("배치 테스트").displayOrder(98).build()).getId();
+        List<Long> menuIds = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            menuIds.add(menuService.createMenu(MenuCreateRequest.builder()
+                    .name("배치 메뉴 " + i).price(new BigDecimal("4000")).categoryId(categoryId).build()).getId());
+        }
+
+        // 첫 주문은 지연 초기화 쿼리가 섞일 수 있으므로 두 번째 주문을 잰다
+        orderService.createOrderFromCart(tableWithCart("BATCH-1", menuIds), null);
+        Long tableId = tableWithCart("BATCH-2", menuIds);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        OrderResponse order = orderService.createOrderFromCart(tableId, null);
+
+        // 테이블 조회, orders insert, order_items insert 배치 1개, order_outbox insert (IDENTITY일 때는 아이템마다 insert해 13개)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEM_COUNT + 2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_ORDER);
+        assertThat(order.getTotalAmount().longValue()).isEqualTo(4000L * ITEM_COUNT);
+    }
+
+    @Test
+    void orderResponsesLoadInConstantStatements() {
+        List<Long> menuIds = new ArrayList<>();
+        for (int c = 0; c < ITEMS_PER_ORDER; c++) {
+            Long categoryId = menuService.createCategory(CategoryCreateRequest.builder()
+                    .name("조회 테스트 " + c).displayOrder(90 + c).build()).getId();
+            menuIds.add(menuService.createMenu(MenuCreateRequest.builder()
+                    .name("조회 메뉴 " + c).price(new BigDecimal("3000")).categoryId(categoryId).build()).getId());
+        }
+
+        Long tableId = null;
+        Long orderId = null;
+        for (int i = 0; i < ORDERS_PER_TABLE; i++) {
+            tableId = tableWithCart("FETCH-" + i, menuIds);
+            orderId = orderService.createOrderFromCart(tableId, null).getId();
+            cartService.addItemToCart(tableId, CartItemRequest.builder()
+                    .tableId(tableId).menuId(menuIds.get(0)).quantity(1).build());
+            orderService.createOrderFromCart(tableId, null);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 주문, 테이블, 결제, 아이템, 메뉴, 카테고리를 한 번에
+        statistics.clear();
+        OrderResponse order = orderService.getOrder(orderId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER);
+        assertThat(order.getOrderItems()).allSatisfy(item -> assertThat(item.getMenu().getCategory().getName()).isNotNull());
+
+        // 테이블 조회 + 진행 중인 주문
+        statistics.clear();
+        List<OrderResponse> active = orderService.getActiveOrdersByTable(tableId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(active).hasSize(2);
+
+        // 운영/보관 테이블 키셋 페이지 + 고른 주문의 아이템 (보관 테이블에서 고른 주문은 없음)
+        statistics.clear();
+        List<OrderResponse> page = orderService.getOrdersForAdmin(null, null, null, null, null, ORDERS_PER_TABLE * 2)
+                .getContent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(page).hasSize(ORDERS_PER_TABLE * 2);
+        assertThat(page).allSatisfy(response -> assertThat(response.getOrderItems()).isNotEmpty());
+    }
+
+    private Long tableWithCart(String tableNumber, List<Long> menuIds) {
+        Long tableId = tableService.createTable(TableCreateRequest.builder()
+                .tableNumber(tableNumber).seatCount(4).build()).getId();
+        tableService.updateTableStatus(tableId, TableStatus.OCCUPIED);
+        for (Long menuId : menuIds) {
+            cartService.addItemToCart(tableId, CartItemRequest.builder()
+                    .tableId(tableId).menuId(menuId).quantity(1).build());
+        }
+        return tableId;
+    }
+}
@@ -0,0 +1,98 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.CartItemRequest;
+import com.coffeeplz.dto.CategoryCreateRequest;
+import com.coffeeplz.dto.MenuCreateRequest;
+import com.coffeeplz.dto.TableCreateRequest;
+import com.coffeeplz.entity.TableStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 풀보다 훨씬 많은 동시 주문이 풀을 고갈시키지 않는지 (ID 발급에 커넥션을 따로 쓰면 서로 기다리다 타임아웃)
+ */
+@SpringBootTest(properties = {
+        "coffeeplz.order.ingest.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=3000",
+        "coffeeplz.outbox.relay-on-commit=false",
+        "coffeeplz.outbox.poll-interval-ms=3600000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class OrderSmallPoolTest {
+
+    private static final int THREADS = 16;
+    private static final int ORDERS = 100;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderIngest orderIngest;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private TableService tableService;
+
+    private Long menuId;
+    private int tableSequence;
+
+    @Test
+    void concurrentOrdersCompleteWithTwoConnections() throws Exception {
+        Long categoryId = menuService.createCategory(CategoryCreateRequest.builder()
+                .name("작은 풀").displayOrder(94).build()).getId();
+        menuId = menuService.createMenu(MenuCreateRequest.builder()
+                .name("작은 풀 메뉴").price(new BigDecimal("3000")).categoryId(categoryId).build()).getId();
+
+        assertThat(run(tableId -> orderService.createOrderFromCart(tableId, null))).isEqualTo(ORDERS);
+        assertThat(run(tableId -> orderIngest.createOrderFromCart(tableId, null))).isEqualTo(ORDERS);
+    }
+
+    private int run(LongConsumer placeOrder) throws Exception {
+        List<Long> tableIds = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            tableIds.add(tableWithCart());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long tableId : tableIds) {
+            futures.add(pool.submit(() -> placeOrder.accept(tableId)));
+        }
+        int completed = 0;
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+            completed++;
+        }
+        pool.shutdown();
+        return completed;
+    }
+
+    private Long tableWithCart() {
+        Long tableId = tableService.createTable(TableCreateRequest.builder()
+                .tableNumber("POOL-" + (++tableSequence)).seatCount(2).build()).getId();
+        tableService.updateTableStatus(tableId, TableStatus.OCCUPIED);
+        cartService.addItemToCart(tableId, CartItemRequest.builder()
+                .tableId(tableId).menuId(menuId).quantity(1).build());
+        return tableId;
+    }
+}
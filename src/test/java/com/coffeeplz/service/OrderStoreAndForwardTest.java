@@ -0,0 +1,268 @@
+package com.coffeeplz.service;
+
+import com.coffeeplz.dto.CartItemRequest;
+import com.coffeeplz.dto.CategoryCreateRequest;
+import com.coffeeplz.dto.MenuCreateRequest;
+import com.coffeeplz.dto.OrderTicketResponse;
+import com.coffeeplz.dto.TableCreateRequest;
+import com.coffeeplz.entity.OrderTicketStatus;
+import com.coffeeplz.entity.TableStatus;
+import com.coffeeplz.repository.IdempotencyRecordRepository;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 주문 도중 DB를 끊었다가 되살려 store-and-forward 접수와 저널 재처리를 확인한다
+ *
+ * DB는 커넥션을 달라는 요청마다 연결 실패를 던지는 방식으로 끊는다.
+ * 컨트롤러와 같은 순서(비동기 접수 중이면 접수, 아니면 주문 생성 후 실패하면 장애 접수)로 주문을 넣고,
+ * 복구 후 저널에 쌓인 접수를 모두 처리하기까지의 시간과 재처리 처리량을 로그로 남기고,
+ * 장애 시간이 coffeeplz.order.accept.outage 타이머에 한 번 기록됐는지 확인한다.
+ * 장애 중 마지막 주문은 Idempotency-Key를 붙여 HTTP로 두 번 보내, 중복 방지 필터를 거쳐도 저널로 접수되는지 확인한다.
+ * 저널은 테스트마다 임시 디렉터리에 두어, 중단된 실행의 접수가 다음 실행에서 재처리되지 않게 한다.
+ */
+@SpringBootTest(properties = {
+        "coffeeplz.order.accept.store-and-forward=true",
+        "coffeeplz.order.accept.workers=1",
+        "coffeeplz.order.accept.retry-delay-ms=50",
+        "coffeeplz.outbox.relay-on-commit=false",
+        "coffeeplz.outbox.poll-interval-ms=3600000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "logging.level.com.coffeeplz=WARN",
+        "logging.level.com.coffeeplz.service.OrderStoreAndForwardTest=INFO"
+})
+@AutoConfigureMockMvc
+@Slf4j
+class OrderStoreAndForwardTest {
+
+    private static final int ORDERS = 60;
+    private static final int ORDERS_BEFORE_OUTAGE = 20;
+    private static final long REPLAY_TIMEOUT_MILLIS = 30_000;
+    private static final String IDEMPOTENCY_KEY_PREFIX = "POST /api/orders/table/";
+
+    @TempDir
+    static Path journalDir;
+
+    @DynamicPropertySource
+    static void journalPath(DynamicPropertyRegistry registry) {
+        registry.add("coffeeplz.order.accept.journal-path", () -> journalDir.resolve("order-accept.journal").toString());
+    }
+
+    @Autowired
+    private OrderAccept orderAccept;
+
+    @Autowired
+    private OrderIngest orderIngest;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private IdempotencyKeys idempotencyKeys;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SwitchableDataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @WithMockUser
+    void ordersPlacedDuringOutageAreReplayedOnceInOrder() throws Exception {
+        Long categoryId = menuService.createCategory(CategoryCreateRequest.builder()
+                .name("장애 테스트").displayOrder(96).build()).getId();
+        Long menuId = menuService.createMenu(MenuCreateRequest.builder()
+                .name("장애 메뉴").price(new BigDecimal("4500")).categoryId(categoryId).build()).getId();
+
+        List<Long> tableIds = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            tableIds.add(tableWithCart("OUTAGE-" + i, menuId));
+        }
+
+        List<String> journaled = new ArrayList<>();
+        for (int i = 0; i < ORDERS - 1; i++) {
+            if (i == ORDERS_BEFORE_OUTAGE) {
+                dataSource.down = true;
+            }
+            String ticketId = placeOrder(tableIds.get(i));
+            if (ticketId != null) {
+                journaled.add(ticketId);
+            }
+        }
+
+        Long lastTableId = tableIds.get(ORDERS - 1);
+        MvcResult first = postOrder(lastTableId);
+        MvcResult retried = postOrder(lastTableId);
+        assertThat(first.getResponse().getStatus()).isEqualTo(202);
+        assertThat(retried.getResponse().getStatus()).isEqualTo(202);
+        assertThat(retried.getResponse().getHeader("Idempotent-Replayed")).isEqualTo("true");
+        String lastTicketId = JsonPath.read(first.getResponse().getContentAsString(), "$.data.ticketId");
+        assertThat((String) JsonPath.read(retried.getResponse().getContentAsString(), "$.data.ticketId"))
+                .isEqualTo(lastTicketId);
+        journaled.add(lastTicketId);
+
+        assertThat(journaled).hasSize(ORDERS - ORDERS_BEFORE_OUTAGE);
+        assertThat(orderAccept.isDatabaseDown()).isTrue();
+
+        long restored = System.nanoTime();
+        dataSource.down = false;
+        long deadline = System.currentTimeMillis() + REPLAY_TIMEOUT_MILLIS;
+        long recovered = 0;
+        while (!allDone(journaled) && System.currentTimeMillis() < deadline) {
+            if (recovered == 0 && !orderAccept.isDatabaseDown()) {
+                recovered = System.nanoTime();
+            }
+            Thread.sleep(10);
+        }
+        long replayed = System.nanoTime();
+
+        Timer outage = meterRegistry.get("coffeeplz.order.accept.outage").timer();
+        log.info("복구까지 {}ms (장애 {}ms), 재처리 {}건 {}ms ({}건/s)",
+                String.format("%.1f", ((recovered != 0 ? recovered : replayed) - restored) / 1_000_000.0),
+                String.format("%.1f", outage.totalTime(TimeUnit.MILLISECONDS)),
+                journaled.size(), String.format("%.1f", (replayed - restored) / 1_000_000.0),
+                String.format("%.0f", journaled.size() * 1_000_000_000.0 / (replayed - restored)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(replayed - restored)).isLessThan(REPLAY_TIMEOUT_MILLIS);
+        assertThat(outage.count()).isEqualTo(1);
+
+        Long previousOrderId = 0L;
+        for (String ticketId : journaled) {
+            OrderTicketResponse ticket = orderAccept.getTicket(ticketId);
+            assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.COMPLETED.name());
+            assertThat(ticket.getOrderId()).isGreaterThan(previousOrderId);
+            previousOrderId = ticket.getOrderId();
+        }
+        for (Long tableId : tableIds) {
+            assertThat(orderService.getActiveOrdersByTable(tableId)).hasSize(1);
+        }
+        assertThat(orderAccept.isDatabaseDown()).isFalse();
+
+        // 장애 중 기록하지 못한 Idempotency 응답은 복구 후 기록된다
+        idempotencyKeys.saveUnsavedRecords();
+        assertThat(idempotencyRecordRepository.findById(IDEMPOTENCY_KEY_PREFIX + lastTableId + " outage-" + lastTableId)).isPresent();
+    }
+
+    private MvcResult postOrder(Long tableId) throws Exception {
+        return mockMvc.perform(post("/api/orders/table/" + tableId)
+                        .header("Idempotency-Key", "outage-" + tableId))
+                .andReturn();
+    }
+
+    /**
+     * 컨트롤러와 같은 순서로 주문 (저널로 접수했으면 접수 번호, 바로 주문했으면 null)
+     */
+    private String placeOrder(Long tableId) {
+        if (orderAccept.isAccepting()) {
+            return orderAccept.accept(tableId, null).getTicketId();
+        }
+        try {
+            orderIngest.createOrderFromCart(tableId, null);
+            return null;
+        } catch (RuntimeException e) {
+            return orderAccept.acceptOnOutage(tableId, null, e).getTicketId();
+        }
+    }
+
+    private boolean allDone(List<String> ticketIds) {
+        return ticketIds.stream()
+                .allMatch(ticketId -> !orderAccept.getTicket(ticketId).getStatus().equals(OrderTicketStatus.ACCEPTED.name()));
+    }
+
+    private Long tableWithCart(String tableNumber, Long menuId) {
+        Long tableId = tableService.createTable(TableCreateRequest.builder()
+                .tableNumber(tableNumber).seatCount(4).build()).getId();
+        tableService.updateTableStatus(tableId, TableStatus.OCCUPIED);
+        cartService.addItemToCart(tableId, CartItemRequest.builder()
+                .tableId(tableId).menuId(menuId).quantity(1).build());
+        return tableId;
+    }
+
+    @TestConfiguration
+    static class OutageConfig {
+
+        @Bean
+        static BeanPostProcessor switchableDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof SwitchableDataSource)
+                            ? new SwitchableDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * down이면 커넥션 요청마다 연결 실패 (커넥션 풀 대기 시간이 지난 것과 같은 예외)
+     */
+    static class SwitchableDataSource extends DelegatingDataSource {
+
+        volatile boolean down;
+
+        SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLTransientConnectionException("DB 연결 끊김 (테스트)");
+            }
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            if (down) {
+                throw new SQLTransientConnectionException("DB 연결 끊김 (테스트)");
+            }
+            return super.getConnection(username, password);
+        }
+    }
+}